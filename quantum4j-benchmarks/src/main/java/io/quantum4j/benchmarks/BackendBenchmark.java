@@ -0,0 +1,65 @@
+package io.quantum4j.benchmarks;
+
+import io.quantum4j.core.backend.Result;
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.backend.StateVectorBackend;
+import io.quantum4j.core.circuit.CompiledCircuit;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@link StateVectorBackend} runs on the families of {@link Circuits}, seeded and with serial kernels so
+ * numbers are comparable across machines. {@code run} includes compiling and fusing the circuit; {@code runCompiled}
+ * reuses one plan.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BackendBenchmark {
+
+    @Param({ "12", "20" })
+    int qubits;
+
+    @Param({ "1", "1024", "100000" })
+    int shots;
+
+    @Param({ "ghz", "qft", "random", "midcircuit" })
+    String family;
+
+    private final StateVectorBackend backend = new StateVectorBackend();
+    private QuantumCircuit circuit;
+    private CompiledCircuit plan;
+    private RunOptions options;
+
+    @Setup
+    public void setUp() {
+        circuit = Circuits.build(family, qubits);
+        options = RunOptions.shots(shots).withSeed(7).withParallelism(null);
+        plan = CompiledCircuit.compile(circuit, options.getMaxFusedQubits());
+    }
+
+    @Benchmark
+    public Result run() {
+        return backend.run(circuit, options);
+    }
+
+    @Benchmark
+    public Result runCompiled() {
+        return backend.run(plan, options);
+    }
+}
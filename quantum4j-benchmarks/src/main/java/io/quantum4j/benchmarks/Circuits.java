@@ -0,0 +1,91 @@
+package io.quantum4j.benchmarks;
+
+import io.quantum4j.core.circuit.QuantumCircuit;
+
+import java.util.SplittableRandom;
+
+/**
+ * Circuit families shared by the benchmarks.
+ * <ul>
+ * <li>{@code ghz}: H followed by a CNOT chain, measured at the end</li>
+ * <li>{@code qft}: quantum Fourier transform with controlled phases decomposed into RZ and CNOT</li>
+ * <li>{@code random}: {@code n} layers of random RY/RZ rotations and a brick-work of CNOTs (seeded)</li>
+ * <li>{@code midcircuit}: GHZ preparation that measures half of the qubits before further gates</li>
+ * </ul>
+ */
+final class Circuits {
+
+    private Circuits() {
+    }
+
+    static QuantumCircuit build(String family, int n) {
+        switch (family) {
+        case "ghz":
+            return ghz(n).measureAll();
+        case "qft":
+            return qft(n).measureAll();
+        case "random":
+            return random(n, n, 42).measureAll();
+        case "midcircuit":
+            return midCircuit(n);
+        default:
+            throw new IllegalArgumentException("Unknown circuit family: " + family);
+        }
+    }
+
+    static QuantumCircuit ghz(int n) {
+        QuantumCircuit qc = QuantumCircuit.create(n).h(0);
+        for (int q = 1; q < n; q++) {
+            qc.cx(q - 1, q);
+        }
+        return qc;
+    }
+
+    static QuantumCircuit qft(int n) {
+        QuantumCircuit qc = QuantumCircuit.create(n);
+        for (int q = 0; q < n; q++) {
+            qc.h(q);
+        }
+        for (int target = n - 1; target >= 0; target--) {
+            qc.h(target);
+            for (int control = target - 1; control >= 0; control--) {
+                double phi = Math.PI / (1L << (target - control));
+                // controlled phase(phi) up to global phase
+                qc.rz(target, phi / 2).cx(control, target).rz(target, -phi / 2);
+                qc.cx(control, target).rz(control, phi / 2);
+            }
+        }
+        for (int q = 0; q < n / 2; q++) {
+            qc.swap(q, n - 1 - q);
+        }
+        return qc;
+    }
+
+    static QuantumCircuit random(int n, int depth, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        QuantumCircuit qc = QuantumCircuit.create(n);
+        for (int layer = 0; layer < depth; layer++) {
+            for (int q = 0; q < n; q++) {
+                qc.ry(q, random.nextDouble(2 * Math.PI)).rz(q, random.nextDouble(2 * Math.PI));
+            }
+            for (int q = layer % 2; q + 1 < n; q += 2) {
+                qc.cx(q, q + 1);
+            }
+        }
+        return qc;
+    }
+
+    static QuantumCircuit midCircuit(int n) {
+        QuantumCircuit qc = ghz(n);
+        for (int q = 0; q < n; q += 2) {
+            qc.measure(q, q);
+        }
+        for (int q = 1; q < n; q += 2) {
+            qc.h(q);
+        }
+        for (int q = 1; q < n; q += 2) {
+            qc.measure(q, q);
+        }
+        return qc;
+    }
+}
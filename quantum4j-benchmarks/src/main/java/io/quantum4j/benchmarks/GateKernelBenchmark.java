@@ -0,0 +1,95 @@
+package io.quantum4j.benchmarks;
+
+import io.quantum4j.core.gates.SingleQubitGate;
+import io.quantum4j.core.gates.StandardGates;
+import io.quantum4j.core.gates.ThreeQubitGate;
+import io.quantum4j.core.gates.TwoQubitGate;
+import io.quantum4j.core.math.StateVector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One gate applied to a serial state vector: the cost of a single pass over 2^n amplitudes.
+ * <p>
+ * {@code target=low} acts on the lowest qubits (adjacent amplitudes, unit stride), {@code target=high} on the highest
+ * (amplitude pairs 2^(n-1) apart). Dense, diagonal and permutation gates take different kernels.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GateKernelBenchmark {
+
+    @Param({ "10", "16", "20" })
+    int qubits;
+
+    @Param({ "low", "high" })
+    String target;
+
+    private final SingleQubitGate h = new StandardGates.HGate();
+    private final SingleQubitGate t = new StandardGates.TGate();
+    private final TwoQubitGate ch = new StandardGates.CHGate();
+    private final TwoQubitGate cx = new StandardGates.CNOTGate();
+    private final ThreeQubitGate ccx = new StandardGates.CCXGate();
+
+    private StateVector state;
+    private int q0, q1, q2;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        state = new StateVector(qubits); // serial unless setParallelism is called
+        // spread the amplitude over every basis state, so no kernel can skip zeros
+        for (int q = 0; q < qubits; q++) {
+            h.apply(state, q);
+        }
+        boolean low = target.equals("low");
+        q0 = low ? 0 : qubits - 1;
+        q1 = low ? 1 : qubits - 2;
+        q2 = low ? 2 : qubits - 3;
+    }
+
+    @Benchmark
+    public StateVector singleQubitDense() {
+        h.apply(state, q0);
+        return state;
+    }
+
+    @Benchmark
+    public StateVector singleQubitDiagonal() {
+        t.apply(state, q0);
+        return state;
+    }
+
+    @Benchmark
+    public StateVector twoQubitDense() {
+        ch.apply(state, q1, q0);
+        return state;
+    }
+
+    @Benchmark
+    public StateVector twoQubitPermutation() {
+        cx.apply(state, q1, q0);
+        return state;
+    }
+
+    @Benchmark
+    public StateVector threeQubit() {
+        ccx.apply(state, q2, q1, q0); // controls q2, q1; target q0
+        return state;
+    }
+}
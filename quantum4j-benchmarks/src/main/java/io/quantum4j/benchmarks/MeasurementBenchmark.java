@@ -0,0 +1,87 @@
+package io.quantum4j.benchmarks;
+
+import io.quantum4j.core.gates.StandardGates;
+import io.quantum4j.core.math.StateVector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measurement on a uniform superposition.
+ * <p>
+ * Measuring collapses the state, so each collapsing benchmark first restores it with an in-place copy and the copy is
+ * part of the timed call; {@code restore} times the copy alone, and subtracting it gives the cost of the measurement.
+ * (A per-invocation setup would be cheaper to write, but for calls this short JMH's own timestamping and setup overhead
+ * would dominate the score.) {@code sampleCounts} does not collapse and needs no restore.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeasurementBenchmark {
+
+    @Param({ "10", "16", "20" })
+    int qubits;
+
+    @Param({ "1024" })
+    int shots;
+
+    private StateVector prepared;
+    private StateVector state;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        prepared = new StateVector(qubits);
+        StandardGates.HGate h = new StandardGates.HGate();
+        for (int q = 0; q < qubits; q++) {
+            h.apply(prepared, q);
+        }
+        state = prepared.copy();
+        state.setRandom(new SplittableRandom(1));
+    }
+
+    @Benchmark
+    public StateVector restore() {
+        state.copyFrom(prepared);
+        return state;
+    }
+
+    @Benchmark
+    public String measureAll() {
+        state.copyFrom(prepared);
+        return state.measureAll();
+    }
+
+    @Benchmark
+    public int measureOneLow() {
+        state.copyFrom(prepared);
+        return state.measureOne(0);
+    }
+
+    @Benchmark
+    public int measureOneHigh() {
+        state.copyFrom(prepared);
+        return state.measureOne(qubits - 1);
+    }
+
+    @Benchmark
+    public void sampleCounts(Blackhole bh) {
+        state.sampleCounts(shots, (outcome, count) -> bh.consume(outcome));
+    }
+}
@@ -0,0 +1,48 @@
+package io.quantum4j.benchmarks;
+
+import io.quantum4j.core.circuit.QuantumCircuit;
+import io.quantum4j.qasm.QasmExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenQASM export of the {@link Circuits} families; the circuit size grows with {@code qubits} (quadratically for
+ * {@code qft} and {@code random}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QasmExportBenchmark {
+
+    @Param({ "10", "50" })
+    int qubits;
+
+    @Param({ "ghz", "qft", "random", "midcircuit" })
+    String family;
+
+    private QuantumCircuit circuit;
+
+    @Setup
+    public void setUp() {
+        circuit = Circuits.build(family, qubits);
+    }
+
+    @Benchmark
+    public String toQasm() {
+        return QasmExporter.toQasm(circuit);
+    }
+}
@@ -2,6 +2,10 @@ package io.quantum4j.core.backend;
 
 import io.quantum4j.core.circuit.QuantumCircuit;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface for quantum circuit execution backends.
  * <p>
@@ -22,4 +26,72 @@ public interface Backend {
      * @return measurement results aggregated over all shots
      */
     Result run(QuantumCircuit circuit, RunOptions options);
+
+    /**
+     * Execute several independent circuits with the same options.
+     * <p>
+     * The default implementation runs them one after the other; backends may run them concurrently.
+     * </p>
+     *
+     * @param circuits
+     *            the circuits to execute
+     * @param options
+     *            execution options applied to every circuit
+     *
+     * @return one result per circuit, in input order
+     */
+    default List<Result> run(List<QuantumCircuit> circuits, RunOptions options) {
+        List<Result> results = new ArrayList<>(circuits.size());
+        for (QuantumCircuit circuit : circuits) {
+            results.add(run(circuit, options));
+        }
+        return results;
+    }
+
+    /**
+     * Execute a quantum circuit asynchronously on the {@linkplain JobScheduler#common() common scheduler}.
+     * <p>
+     * The calling thread is not blocked. Cancelling the returned future stops the run before its next instruction;
+     * use {@link JobScheduler#create} and {@link JobScheduler#submit} for a dedicated compute pool or queue bound.
+     * </p>
+     *
+     * @param circuit
+     *            the quantum circuit to execute
+     * @param options
+     *            execution options; {@link RunOptions#withPriority(int)} orders waiting jobs
+     *
+     * @return a future for the measurement results
+     *
+     * @throws java.util.concurrent.RejectedExecutionException
+     *             if the scheduler's queue is full
+     */
+    default CompletableFuture<Result> submit(QuantumCircuit circuit, RunOptions options) {
+        return JobScheduler.common().submit(this, circuit, options);
+    }
+
+    /**
+     * Execute a parameterized circuit once per row of parameter values.
+     * <p>
+     * The default implementation binds and runs each row in turn; backends may evaluate rows concurrently.
+     * </p>
+     *
+     * @param template
+     *            circuit with symbolic parameters (see {@link QuantumCircuit#getParameters()})
+     * @param parameterValues
+     *            one row per assignment, each with one value per parameter
+     * @param options
+     *            execution options applied to every assignment
+     *
+     * @return one result per row, in input order
+     *
+     * @throws IllegalArgumentException
+     *             if a row does not have one value per parameter
+     */
+    default List<Result> runBatch(QuantumCircuit template, double[][] parameterValues, RunOptions options) {
+        List<Result> results = new ArrayList<>(parameterValues.length);
+        for (double[] row : parameterValues) {
+            results.add(run(template.bind(row), options));
+        }
+        return results;
+    }
 }
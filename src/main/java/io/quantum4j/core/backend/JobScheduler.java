@@ -0,0 +1,275 @@
+package io.quantum4j.core.backend;
+
+import io.quantum4j.core.circuit.QuantumCircuit;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded, prioritized executor for asynchronous backend runs.
+ * <p>
+ * At most {@code maxConcurrentJobs} jobs run at a time; further jobs wait in a queue of at most
+ * {@code queueCapacity} entries, ordered by {@link RunOptions#getPriority()} (highest first) and then by submission
+ * order. Each running job is driven by its own lightweight thread: a virtual thread when the JVM provides them
+ * (Java 21+), otherwise a daemon platform thread. The driving thread walks the instructions and hands large gate
+ * kernels to the compute pool, so the number of concurrent jobs, not the number of submitted requests, decides how
+ * many cores are busy.
+ * </p>
+ * <p>
+ * Cancelling a returned future removes a queued job, or makes a running job stop before its next instruction and
+ * release its slot. {@code cancel(true)} and {@code cancel(false)} behave the same.
+ * </p>
+ */
+public final class JobScheduler implements AutoCloseable {
+
+    /** queue capacity of the {@linkplain #common() common} scheduler */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+    private static volatile JobScheduler common;
+
+    private final int maxConcurrentJobs;
+    private final int queueCapacity;
+    private final ForkJoinPool computePool;
+    private final ExecutorService runners;
+    private final boolean virtualThreads;
+
+    // guarded by this
+    private final PriorityQueue<Job> queue = new PriorityQueue<>();
+    private final Set<Job> running = new HashSet<>();
+    private long submitted;
+    private boolean closed;
+
+    private JobScheduler(int maxConcurrentJobs, int queueCapacity, ForkJoinPool computePool) {
+        if (maxConcurrentJobs < 1)
+            throw new IllegalArgumentException("maxConcurrentJobs must be >= 1");
+        if (queueCapacity < 0)
+            throw new IllegalArgumentException("queueCapacity must be >= 0");
+        this.maxConcurrentJobs = maxConcurrentJobs;
+        this.queueCapacity = queueCapacity;
+        this.computePool = computePool;
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.runners = virtual != null ? virtual : Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "quantum4j-job-" + THREAD_IDS.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Create a scheduler.
+     *
+     * @param maxConcurrentJobs
+     *            number of jobs that may run at the same time (must be &ge; 1)
+     * @param queueCapacity
+     *            number of jobs that may wait for a slot (must be &ge; 0)
+     * @param computePool
+     *            pool for the gate kernels of every job, or null to keep the pool of each job's options
+     *
+     * @return a new scheduler; {@link #close()} it when done
+     *
+     * @throws IllegalArgumentException
+     *             if a limit is out of range
+     */
+    public static JobScheduler create(int maxConcurrentJobs, int queueCapacity, ForkJoinPool computePool) {
+        return new JobScheduler(maxConcurrentJobs, queueCapacity, computePool);
+    }
+
+    /**
+     * Get the shared scheduler used by {@link Backend#submit}.
+     * <p>
+     * It runs one job per available processor, queues up to {@value #DEFAULT_QUEUE_CAPACITY} more, and leaves the
+     * compute pool to each job's options. It cannot be closed.
+     * </p>
+     *
+     * @return the common scheduler
+     */
+    public static JobScheduler common() {
+        JobScheduler s = common;
+        if (s == null) {
+            synchronized (JobScheduler.class) {
+                s = common;
+                if (s == null) {
+                    s = new JobScheduler(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY, null);
+                    common = s;
+                }
+            }
+        }
+        return s;
+    }
+
+    /**
+     * Queue a circuit for execution on a backend.
+     *
+     * @param backend
+     *            the backend to run on
+     * @param circuit
+     *            the circuit to execute
+     * @param options
+     *            execution options; {@link RunOptions#getPriority()} orders the queue
+     *
+     * @return a future completed with the result, completed exceptionally with the backend's exception, or cancelled
+     *
+     * @throws RejectedExecutionException
+     *             if the queue is full or the scheduler is closed
+     */
+    public CompletableFuture<Result> submit(Backend backend, QuantumCircuit circuit, RunOptions options) {
+        CompletableFuture<Result> future = new CompletableFuture<>();
+        Job job;
+        synchronized (this) {
+            if (closed)
+                throw new RejectedExecutionException("Scheduler is closed");
+            if (running.size() >= maxConcurrentJobs && queue.size() >= queueCapacity)
+                throw new RejectedExecutionException("Job queue is full (" + queueCapacity + " jobs)");
+            job = new Job(backend, circuit, options, future, submitted++);
+            queue.add(job);
+        }
+        future.whenComplete((r, t) -> {
+            if (future.isCancelled()) {
+                synchronized (this) {
+                    queue.remove(job);
+                }
+            }
+        });
+        dispatch();
+        return future;
+    }
+
+    /**
+     * @return true if jobs run on virtual threads
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * @return the number of jobs currently running
+     */
+    public synchronized int getRunningJobs() {
+        return running.size();
+    }
+
+    /**
+     * @return the number of jobs waiting for a slot
+     */
+    public synchronized int getQueuedJobs() {
+        return queue.size();
+    }
+
+    /**
+     * Stop accepting jobs and cancel all running and queued ones. Does not shut down the compute pool.
+     *
+     * @throws UnsupportedOperationException
+     *             if this is the {@linkplain #common() common} scheduler
+     */
+    @Override
+    public void close() {
+        if (this == common)
+            throw new UnsupportedOperationException("The common scheduler cannot be closed");
+        List<Job> pending;
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+            pending = new ArrayList<>(queue);
+            pending.addAll(running);
+            queue.clear();
+        }
+        for (Job job : pending) {
+            job.future.cancel(false);
+        }
+        runners.shutdown();
+    }
+
+    /** Start queued jobs while slots are free. */
+    private void dispatch() {
+        while (true) {
+            Job job;
+            synchronized (this) {
+                if (running.size() >= maxConcurrentJobs || queue.isEmpty())
+                    return;
+                job = queue.poll();
+                running.add(job);
+            }
+            try {
+                runners.execute(job);
+            } catch (RejectedExecutionException e) {
+                // closed concurrently
+                job.future.cancel(false);
+                finished(job);
+            }
+        }
+    }
+
+    private void finished(Job job) {
+        synchronized (this) {
+            running.remove(job);
+        }
+        dispatch();
+    }
+
+    /** {@code Executors.newVirtualThreadPerTaskExecutor()} when running on Java 21+, else null. */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** One submitted run; ordered by descending priority, then submission order. */
+    private final class Job implements Runnable, Comparable<Job> {
+        final Backend backend;
+        final QuantumCircuit circuit;
+        final RunOptions options;
+        final CompletableFuture<Result> future;
+        final long sequence;
+
+        Job(Backend backend, QuantumCircuit circuit, RunOptions options, CompletableFuture<Result> future,
+                long sequence) {
+            this.backend = backend;
+            this.circuit = circuit;
+            this.options = options;
+            this.future = future;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (future.isDone())
+                    return;
+                RunOptions o = options.withCancellation(future::isCancelled);
+                if (computePool != null) {
+                    o = o.withParallelism(computePool);
+                }
+                future.complete(backend.run(circuit, o));
+            } catch (CancellationException e) {
+                future.cancel(false);
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            } finally {
+                finished(this);
+            }
+        }
+
+        @Override
+        public int compareTo(Job other) {
+            int byPriority = Integer.compare(other.options.getPriority(), options.getPriority());
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package io.quantum4j.core.backend;
+
+import io.quantum4j.core.circuit.CompiledCircuit;
+import io.quantum4j.core.circuit.ParameterizedGate;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import io.quantum4j.core.gates.Gate;
+import io.quantum4j.core.math.MatrixProductState;
+
+import java.util.Arrays;
+
+/**
+ * Matrix-product-state simulator backend.
+ * <p>
+ * Represents the state as a chain of per-qubit tensors (see {@link MatrixProductState}) instead of 2^n amplitudes, so
+ * circuits with limited entanglement — shallow circuits, nearest-neighbour ansätze, GHZ-like states — can be simulated
+ * on far more qubits than {@link StateVectorBackend} allows. One- and two-qubit gates are supported; two-qubit gates
+ * on distant qubits are routed with SWAPs. Routing SWAPs are truncated like any other two-site update, so moving a
+ * qubit across entangled neighbours can exceed the bond dimension and lose weight, which is counted in
+ * {@link MatrixProductState#getTruncationError()}. Gates on three or more qubits are rejected; decompose them first.
+ * </p>
+ * <p>
+ * Accuracy is controlled by the maximum bond dimension and the truncation threshold. With a bond dimension of
+ * 2^(n/2) and threshold 0 the simulation is exact; smaller values trade fidelity for speed.
+ * </p>
+ * <p>
+ * When all measurements are terminal the circuit is evolved once and every shot is sampled from the final MPS, qubit
+ * by qubit. Otherwise the gates before the first measurement are applied once and each shot continues from a copy.
+ * Results use the same classical-register layout as {@link StateVectorBackend}.
+ * </p>
+ */
+public final class MpsBackend implements Backend {
+
+    /** bond dimension used by {@link #MpsBackend()} */
+    public static final int DEFAULT_MAX_BOND_DIMENSION = 64;
+
+    /** truncation threshold used by {@link #MpsBackend()} */
+    public static final double DEFAULT_TRUNCATION_THRESHOLD = 1e-12;
+
+    private final int maxBondDimension;
+    private final double truncationThreshold;
+
+    /**
+     * Create a backend with {@link #DEFAULT_MAX_BOND_DIMENSION} and {@link #DEFAULT_TRUNCATION_THRESHOLD}.
+     */
+    public MpsBackend() {
+        this(DEFAULT_MAX_BOND_DIMENSION, DEFAULT_TRUNCATION_THRESHOLD);
+    }
+
+    /**
+     * Create a backend with explicit truncation settings.
+     *
+     * @param maxBondDimension
+     *            largest bond dimension kept after a two-qubit gate (≥ 1)
+     * @param truncationThreshold
+     *            largest weight (sum of squared singular values) discarded per two-qubit gate, in [0, 1)
+     *
+     * @throws IllegalArgumentException
+     *             if an argument is out of range
+     */
+    public MpsBackend(int maxBondDimension, double truncationThreshold) {
+        if (maxBondDimension < 1) {
+            throw new IllegalArgumentException("maxBondDimension must be >= 1");
+        }
+        if (!(truncationThreshold >= 0.0 && truncationThreshold < 1.0)) {
+            throw new IllegalArgumentException("truncationThreshold must be in [0, 1)");
+        }
+        this.maxBondDimension = maxBondDimension;
+        this.truncationThreshold = truncationThreshold;
+    }
+
+    /**
+     * @return the largest bond dimension kept after a two-qubit gate
+     */
+    public int getMaxBondDimension() {
+        return maxBondDimension;
+    }
+
+    /**
+     * @return the largest weight discarded per two-qubit gate
+     */
+    public double getTruncationThreshold() {
+        return truncationThreshold;
+    }
+
+    /**
+     * Execute a circuit on this backend.
+     *
+     * @param circuit
+     *            the circuit to simulate
+     * @param options
+     *            execution options (only the shot count is used)
+     *
+     * @return measurement results aggregated from all shots
+     *
+     * @throws IllegalArgumentException
+     *             if the circuit is invalid or contains a gate on more than two qubits
+     * @throws IllegalStateException
+     *             if the circuit still has unbound parameters
+     */
+    @Override
+    public Result run(QuantumCircuit circuit, RunOptions options) {
+        CompiledCircuit plan = CompiledCircuit.compile(circuit);
+        return run(plan, options);
+    }
+
+    /**
+     * Execute a precompiled plan on this backend. The plan's fusion width should be at most 2.
+     *
+     * @param plan
+     *            the compiled circuit to simulate
+     * @param options
+     *            execution options (only the shot count is used)
+     *
+     * @return measurement results aggregated from all shots
+     *
+     * @throws IllegalArgumentException
+     *             if the plan contains a gate on more than two qubits
+     * @throws IllegalStateException
+     *             if the plan still has unbound parameters
+     */
+    public Result run(CompiledCircuit plan, RunOptions options) {
+        int nQubits = plan.getNumQubits();
+        double[][] matrices = new double[plan.size()][];
+        for (int i = 0; i < plan.size(); i++) {
+            if (plan.opcode(i) == CompiledCircuit.OP_GATE) {
+                matrices[i] = matrixOf(plan.gate(i));
+            }
+        }
+
+        MatrixProductState prefix = new MatrixProductState(nQubits, maxBondDimension, truncationThreshold);
+        int start = 0;
+        while (start < plan.size() && plan.opcode(start) == CompiledCircuit.OP_GATE) {
+            options.checkCancelled();
+            apply(prefix, matrices[start], plan.qubits(start));
+            start++;
+        }
+
+        OutcomeHistogram counts = new OutcomeHistogram(nQubits);
+        int[] classicalRegister = new int[nQubits];
+        RandomStreams streams = RandomStreams.of(options);
+        if (plan.hasOnlyTerminalMeasurements()) {
+            prefix.setRandom(streams.root());
+            int[] outcome = new int[nQubits];
+            int measurements = plan.measurementCount();
+            for (int shot = 0; shot < options.getShots(); shot++) {
+                options.checkCancelled();
+                prefix.sample(outcome);
+                if (measurements == 0) {
+                    // no explicit measurements: report all qubits, like StateVectorBackend
+                    System.arraycopy(outcome, 0, classicalRegister, 0, nQubits);
+                } else {
+                    for (int m = 0; m < measurements; m++) {
+                        classicalRegister[plan.measuredClassicalBit(m)] = outcome[plan.measuredQubit(m)];
+                    }
+                }
+                counts.add(classicalRegister, 1);
+            }
+            return new Result(counts);
+        }
+
+        for (int shot = 0; shot < options.getShots(); shot++) {
+            MatrixProductState state = prefix.copy();
+            state.setRandom(streams.stream(shot));
+            Arrays.fill(classicalRegister, 0);
+            for (int i = start; i < plan.size(); i++) {
+                options.checkCancelled();
+                if (plan.opcode(i) == CompiledCircuit.OP_GATE) {
+                    apply(state, matrices[i], plan.qubits(i));
+                } else {
+                    classicalRegister[plan.classicalBit(i)] = state.measure(plan.qubits(i)[0]);
+                }
+            }
+            counts.add(classicalRegister, 1);
+        }
+        return new Result(counts);
+    }
+
+    private static double[] matrixOf(Gate gate) {
+        if (gate instanceof ParameterizedGate) {
+            throw new IllegalStateException(
+                    "Unbound parameter: " + ((ParameterizedGate) gate).getParameter().getName());
+        }
+        if (gate.arity() > 2) {
+            throw new IllegalArgumentException(
+                    "MPS backend supports gates on at most two qubits, got " + gate.name() + " on " + gate.arity());
+        }
+        return gate.matrix();
+    }
+
+    private static void apply(MatrixProductState state, double[] matrix, int[] qubits) {
+        if (qubits.length == 1) {
+            state.applySingleQubit(matrix, qubits[0]);
+        } else {
+            state.applyTwoQubit(matrix, qubits[0], qubits[1]);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.quantum4j.core.backend;
+
+import io.quantum4j.core.circuit.CompiledCircuit;
+import io.quantum4j.core.noise.KrausChannel;
+import io.quantum4j.core.noise.NoiseModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The channels a {@link NoiseModel} inserts after each gate step of a plan, resolved to concrete qubits.
+ * <p>
+ * A single-qubit channel on a multi-qubit gate is expanded into one entry per gate qubit; a channel as wide as the gate
+ * gets the gate's qubits. Steps without noise (and measurement steps) have empty arrays.
+ * </p>
+ */
+final class NoiseSchedule {
+
+    private static final KrausChannel[] NO_CHANNELS = new KrausChannel[0];
+    private static final int[][] NO_TARGETS = new int[0][];
+
+    private final KrausChannel[][] channels;
+    private final int[][][] targets;
+
+    NoiseSchedule(CompiledCircuit plan, NoiseModel noise) {
+        int size = plan.size();
+        channels = new KrausChannel[size][];
+        targets = new int[size][][];
+        for (int i = 0; i < size; i++) {
+            channels[i] = NO_CHANNELS;
+            targets[i] = NO_TARGETS;
+            if (plan.opcode(i) != CompiledCircuit.OP_GATE)
+                continue;
+
+            String name = plan.gate(i).name();
+            int[] qs = plan.qubits(i);
+            List<KrausChannel> stepChannels = new ArrayList<>();
+            List<int[]> stepTargets = new ArrayList<>();
+            for (KrausChannel channel : noise.getGateErrors(name)) {
+                if (channel.getNumQubits() == 1) {
+                    for (int q : qs) {
+                        stepChannels.add(channel);
+                        stepTargets.add(new int[] { q });
+                    }
+                } else if (channel.getNumQubits() == qs.length) {
+                    stepChannels.add(channel);
+                    stepTargets.add(qs);
+                } else {
+                    throw new IllegalArgumentException("A " + channel.getNumQubits()
+                            + "-qubit channel cannot follow gate " + name + " on " + qs.length + " qubits");
+                }
+            }
+            if (!stepChannels.isEmpty()) {
+                channels[i] = stepChannels.toArray(NO_CHANNELS);
+                targets[i] = stepTargets.toArray(NO_TARGETS);
+            }
+        }
+    }
+
+    /**
+     * @return the channels after a step, in application order
+     */
+    KrausChannel[] channels(int step) {
+        return channels[step];
+    }
+
+    /**
+     * @return the qubits of each channel after a step (shared, must not be modified)
+     */
+    int[][] targets(int step) {
+        return targets[step];
+    }
+}
@@ -0,0 +1,195 @@
+package io.quantum4j.core.backend;
+
+import java.util.Arrays;
+
+/**
+ * Shot histogram keyed by bit-packed classical registers, in an open-addressing table of primitives.
+ * <p>
+ * Classical bit c is bit {@code c & 63} of key word {@code c >>> 6}; registers of up to 64 bits use a single
+ * {@code long} per key. Keys live in one flat {@code long[]} (one stride of words per slot) and counts in a parallel
+ * {@code int[]} where 0 marks an empty slot, so recording a shot neither boxes nor allocates. Linear probing at a load
+ * factor of at most one half keeps lookups short.
+ * </p>
+ * <p>
+ * Not thread-safe: parallel backends fill one histogram per worker and merge them with {@link #addAll}.
+ * </p>
+ */
+final class OutcomeHistogram {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int width;
+    private final int words;
+    private final long[] scratch;
+    private long[] keys;
+    private int[] counts;
+    private int size;
+    private long total;
+
+    /**
+     * @param width
+     *            number of classical bits per outcome (&ge; 0)
+     */
+    OutcomeHistogram(int width) {
+        if (width < 0) {
+            throw new IllegalArgumentException("width must be >= 0");
+        }
+        this.width = width;
+        this.words = Math.max(1, (width + 63) >>> 6);
+        this.scratch = new long[words];
+        this.keys = new long[INITIAL_CAPACITY * words];
+        this.counts = new int[INITIAL_CAPACITY];
+    }
+
+    int width() {
+        return width;
+    }
+
+    /** @return the number of distinct outcomes */
+    int size() {
+        return size;
+    }
+
+    /** @return the number of recorded shots */
+    long total() {
+        return total;
+    }
+
+    /** @return words per key */
+    int words() {
+        return words;
+    }
+
+    /** @return the number of slots; iterate slots with {@link #count(int)} &gt; 0 */
+    int capacity() {
+        return counts.length;
+    }
+
+    /** @return the count in a slot, 0 if the slot is empty */
+    int count(int slot) {
+        return counts[slot];
+    }
+
+    /** @return one word of the key in an occupied slot */
+    long keyWord(int slot, int word) {
+        return keys[slot * words + word];
+    }
+
+    /** @return the value of classical bit {@code bit} of the key in an occupied slot */
+    int bit(int slot, int bit) {
+        return (int) ((keys[slot * words + (bit >>> 6)] >>> bit) & 1L);
+    }
+
+    /**
+     * Record shots of an outcome given as a packed long (registers of at most 64 bits).
+     */
+    void add(long outcome, int count) {
+        if (words != 1) {
+            throw new IllegalStateException("Register of " + width + " bits does not fit in a long");
+        }
+        scratch[0] = outcome;
+        add(scratch, count);
+    }
+
+    /**
+     * Record shots of an outcome given as one int (0 or 1) per classical bit.
+     */
+    void add(int[] register, int count) {
+        Arrays.fill(scratch, 0L);
+        for (int c = 0; c < register.length; c++) {
+            if (register[c] != 0) {
+                scratch[c >>> 6] |= 1L << c;
+            }
+        }
+        add(scratch, count);
+    }
+
+    /**
+     * Record shots of an outcome given as packed key words (not retained).
+     */
+    void add(long[] key, int count) {
+        if (count <= 0) {
+            return;
+        }
+        int slot = find(key);
+        if (counts[slot] == 0) {
+            System.arraycopy(key, 0, keys, slot * words, words);
+            size++;
+            counts[slot] = count;
+            total += count;
+            if (2 * size > counts.length) {
+                grow();
+            }
+        } else {
+            counts[slot] += count;
+            total += count;
+        }
+    }
+
+    /**
+     * Add every outcome of another histogram of the same width.
+     */
+    void addAll(OutcomeHistogram other) {
+        if (other.width != width) {
+            throw new IllegalArgumentException("Histogram widths differ: " + width + " vs " + other.width);
+        }
+        long[] key = new long[words];
+        for (int slot = 0; slot < other.counts.length; slot++) {
+            if (other.counts[slot] != 0) {
+                System.arraycopy(other.keys, slot * words, key, 0, words);
+                add(key, other.counts[slot]);
+            }
+        }
+    }
+
+    /**
+     * @return the count of an outcome, 0 if it never occurred
+     */
+    int get(long[] key) {
+        return counts[find(key)];
+    }
+
+    /** Slot holding {@code key}, or the empty slot where it would be inserted. */
+    private int find(long[] key) {
+        int mask = counts.length - 1;
+        int slot = hash(key) & mask;
+        while (counts[slot] != 0 && !matches(slot, key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private boolean matches(int slot, long[] key) {
+        int base = slot * words;
+        for (int w = 0; w < words; w++) {
+            if (keys[base + w] != key[w])
+                return false;
+        }
+        return true;
+    }
+
+    private int hash(long[] key) {
+        long h = 0;
+        for (int w = 0; w < words; w++) {
+            h = (h ^ key[w]) * 0x9E3779B97F4A7C15L;
+            h ^= h >>> 32;
+        }
+        return (int) (h ^ (h >>> 29));
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new long[oldKeys.length * 2];
+        counts = new int[oldCounts.length * 2];
+        long[] key = new long[words];
+        for (int slot = 0; slot < oldCounts.length; slot++) {
+            if (oldCounts[slot] != 0) {
+                System.arraycopy(oldKeys, slot * words, key, 0, words);
+                int target = find(key);
+                System.arraycopy(key, 0, keys, target * words, words);
+                counts[target] = oldCounts[slot];
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.quantum4j.core.backend;
+
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic random streams for one run, derived from {@link RunOptions#getSeed()}.
+ * <p>
+ * Stream k is seeded with a hash of (root seed, k), like a counter-based generator: any thread can create the stream of
+ * any shot without touching shared state, and the stream does not depend on which worker runs the shot or in what
+ * order. Unseeded runs pick a random root seed.
+ * </p>
+ */
+final class RandomStreams {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+
+    private RandomStreams(long seed) {
+        this.seed = seed;
+    }
+
+    static RandomStreams of(RunOptions options) {
+        return new RandomStreams(options.getSeed().orElseGet(() -> new SplittableRandom().nextLong()));
+    }
+
+    /** @return the stream for the run as a whole */
+    SplittableRandom root() {
+        return new SplittableRandom(seed);
+    }
+
+    /** @return the stream of shot (or row) {@code index} */
+    SplittableRandom stream(long index) {
+        return new SplittableRandom(mix64(seed + (index + 1) * GOLDEN_GAMMA));
+    }
+
+    /** @return the streams of sub-run {@code index}, e.g. one circuit of a batch */
+    RandomStreams child(long index) {
+        return new RandomStreams(mix64(seed ^ mix64(index + 1)));
+    }
+
+    /** Stafford variant 13 of the MurmurHash3 finalizer, as used by SplittableRandom. */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
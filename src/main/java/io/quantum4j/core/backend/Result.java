@@ -1,26 +1,55 @@
 package io.quantum4j.core.backend;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Immutable container for quantum circuit execution results.
  * <p>
  * Stores measurement outcome counts from multiple circuit executions (shots). Each key is a classical bit string (e.g.,
- * "110") and each value is the number of times that outcome was measured across all shots.
+ * "110", classical bit 0 first) and each value is the number of times that outcome was measured across all shots.
+ * </p>
+ * <p>
+ * Internally the outcomes are kept as bit-packed integers in a primitive histogram: bit c of an outcome is classical
+ * bit c. The string map returned by {@link #getCounts()} is rendered on first use only. The integer accessors
+ * ({@link #getOutcomes()}, {@link #getCount(long)}, {@link #getProbability(long)}) work without it, for registers of
+ * up to 64 bits.
  * </p>
  */
 public final class Result {
-    private final Map<String, Integer> counts;
+    private final OutcomeHistogram histogram;
+    private volatile Map<String, Integer> counts;
 
     /**
      * Construct a Result from measurement counts.
+     * <p>
+     * The map is copied and {@link #getCounts()} returns the copy as given, including entries with a count of zero.
+     * </p>
      *
      * @param counts
-     *            map of classical bit strings to outcome frequencies
+     *            map of classical bit strings to outcome frequencies; all keys must be strings of '0' and '1' of the
+     *            same length
+     *
+     * @throws IllegalArgumentException
+     *             if a key is not a bit string of the common length
      */
     public Result(Map<String, Integer> counts) {
-        this.counts = Collections.unmodifiableMap(counts);
+        int width = counts.isEmpty() ? 0 : counts.keySet().iterator().next().length();
+        OutcomeHistogram h = new OutcomeHistogram(width);
+        int[] register = new int[width];
+        for (Map.Entry<String, Integer> e : counts.entrySet()) {
+            String bits = e.getKey();
+            parse(bits, register);
+            h.add(register, e.getValue());
+        }
+        this.histogram = h;
+        this.counts = Collections.unmodifiableMap(new HashMap<>(counts));
+    }
+
+    Result(OutcomeHistogram histogram) {
+        this.histogram = histogram;
     }
 
     /**
@@ -29,11 +58,181 @@ public final class Result {
      * @return immutable map of bit strings to outcome counts
      */
     public Map<String, Integer> getCounts() {
-        return counts;
+        Map<String, Integer> c = counts;
+        if (c == null) {
+            c = Collections.unmodifiableMap(render(histogram));
+            counts = c;
+        }
+        return c;
+    }
+
+    /**
+     * @return the width of the classical register
+     */
+    public int getNumClassicalBits() {
+        return histogram.width();
+    }
+
+    /**
+     * @return the total number of shots
+     */
+    public long getShots() {
+        return histogram.total();
+    }
+
+    /**
+     * Get the distinct outcomes as integers (bit c = classical bit c).
+     *
+     * @return the outcomes, in ascending order
+     *
+     * @throws UnsupportedOperationException
+     *             if the register is wider than 64 bits
+     */
+    public long[] getOutcomes() {
+        checkPacked();
+        long[] outcomes = new long[histogram.size()];
+        int n = 0;
+        for (int slot = 0; slot < histogram.capacity(); slot++) {
+            if (histogram.count(slot) != 0) {
+                outcomes[n++] = histogram.keyWord(slot, 0);
+            }
+        }
+        Arrays.sort(outcomes);
+        return outcomes;
+    }
+
+    /**
+     * Get how often an outcome was measured.
+     *
+     * @param outcome
+     *            the outcome as an integer (bit c = classical bit c)
+     *
+     * @return the count, 0 if the outcome never occurred
+     *
+     * @throws UnsupportedOperationException
+     *             if the register is wider than 64 bits
+     */
+    public int getCount(long outcome) {
+        checkPacked();
+        return histogram.get(new long[] { outcome });
+    }
+
+    /**
+     * Get how often an outcome was measured.
+     *
+     * @param bits
+     *            the outcome as a bit string, classical bit 0 first
+     *
+     * @return the count, 0 if the outcome never occurred
+     *
+     * @throws IllegalArgumentException
+     *             if the string is not a bit string of the register width
+     */
+    public int getCount(String bits) {
+        int[] register = new int[histogram.width()];
+        parse(bits, register);
+        long[] key = new long[histogram.words()];
+        for (int c = 0; c < register.length; c++) {
+            key[c >>> 6] |= (long) register[c] << c;
+        }
+        return histogram.get(key);
+    }
+
+    /**
+     * Get the observed frequency of an outcome.
+     *
+     * @param outcome
+     *            the outcome as an integer (bit c = classical bit c)
+     *
+     * @return count / shots
+     *
+     * @throws UnsupportedOperationException
+     *             if the register is wider than 64 bits
+     */
+    public double getProbability(long outcome) {
+        return histogram.total() == 0 ? 0.0 : (double) getCount(outcome) / histogram.total();
+    }
+
+    /**
+     * Get the observed frequency of every outcome.
+     *
+     * @return immutable map of bit strings to count / shots
+     */
+    public Map<String, Double> getProbabilities() {
+        Map<String, Double> p = new HashMap<>();
+        double shots = histogram.total();
+        getCounts().forEach((bits, count) -> p.put(bits, count / shots));
+        return Collections.unmodifiableMap(p);
+    }
+
+    /**
+     * Count outcomes on a subset of the classical bits, summing over all others.
+     *
+     * @param classicalBits
+     *            the bits to keep; character j of each key is classical bit {@code classicalBits[j]}
+     *
+     * @return immutable map of marginal bit strings to counts
+     *
+     * @throws IllegalArgumentException
+     *             if a bit index is out of range
+     */
+    public Map<String, Integer> getMarginalCounts(int... classicalBits) {
+        for (int c : classicalBits) {
+            if (c < 0 || c >= histogram.width()) {
+                throw new IllegalArgumentException("Invalid classical bit index: " + c);
+            }
+        }
+        OutcomeHistogram marginal = new OutcomeHistogram(classicalBits.length);
+        int[] register = new int[classicalBits.length];
+        for (int slot = 0; slot < histogram.capacity(); slot++) {
+            int count = histogram.count(slot);
+            if (count != 0) {
+                for (int j = 0; j < classicalBits.length; j++) {
+                    register[j] = histogram.bit(slot, classicalBits[j]);
+                }
+                marginal.add(register, count);
+            }
+        }
+        return Collections.unmodifiableMap(render(marginal));
+    }
+
+    private void checkPacked() {
+        if (histogram.width() > 64) {
+            throw new UnsupportedOperationException(
+                    "Register of " + histogram.width() + " bits does not fit in a long; use getCounts()");
+        }
+    }
+
+    private static Map<String, Integer> render(OutcomeHistogram h) {
+        Map<String, Integer> map = new HashMap<>(2 * h.size());
+        char[] chars = new char[h.width()];
+        for (int slot = 0; slot < h.capacity(); slot++) {
+            int count = h.count(slot);
+            if (count != 0) {
+                for (int c = 0; c < chars.length; c++) {
+                    chars[c] = h.bit(slot, c) == 0 ? '0' : '1';
+                }
+                map.put(new String(chars), count);
+            }
+        }
+        return map;
+    }
+
+    private static void parse(String bits, int[] register) {
+        if (bits.length() != register.length) {
+            throw new IllegalArgumentException("Expected " + register.length + " bits, got \"" + bits + "\"");
+        }
+        for (int c = 0; c < register.length; c++) {
+            char ch = bits.charAt(c);
+            if (ch != '0' && ch != '1') {
+                throw new IllegalArgumentException("Not a bit string: \"" + bits + "\"");
+            }
+            register[c] = ch - '0';
+        }
     }
 
     @Override
     public String toString() {
-        return "Result{counts=" + counts + '}';
+        return "Result{counts=" + getCounts() + '}';
     }
 }
@@ -1,23 +1,58 @@
 package io.quantum4j.core.backend;
 
+import io.quantum4j.core.circuit.GateFusion;
+import io.quantum4j.core.noise.NoiseModel;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+
 /**
  * Configuration for quantum circuit execution.
  * <p>
  * Specifies execution parameters such as the number of measurement shots (repeated circuit runs) to collect statistics
- * on measurement outcomes.
+ * on measurement outcomes. Instances are immutable (all fields are final) and can be shared between threads; the
+ * {@code with*} methods return modified copies.
  * </p>
  */
 public final class RunOptions {
+
+    /** default minimum qubit count for multi-threaded gate kernels */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 14;
+
+    /** default maximum width of fused gate blocks */
+    public static final int DEFAULT_MAX_FUSED_QUBITS = 2;
+
     private final int shots;
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private final int maxFusedQubits;
+    private final NoiseModel noise;
+    private final int priority;
+    private final boolean seeded;
+    private final long seed;
+    private final BooleanSupplier cancelled; // set by JobScheduler only
 
-    private RunOptions(int shots) {
-        if (shots <= 0)
-            throw new IllegalArgumentException("shots must be > 0");
+    private RunOptions(int shots, ForkJoinPool pool, int parallelThreshold, int maxFusedQubits, NoiseModel noise,
+            int priority, boolean seeded, long seed, BooleanSupplier cancelled) {
         this.shots = shots;
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        this.maxFusedQubits = maxFusedQubits;
+        this.noise = noise;
+        this.priority = priority;
+        this.seeded = seeded;
+        this.seed = seed;
+        this.cancelled = cancelled;
     }
 
     /**
      * Create RunOptions with the specified number of shots.
+     * <p>
+     * Gate kernels use the common {@link ForkJoinPool} for states of at least {@value #DEFAULT_PARALLEL_THRESHOLD}
+     * qubits, and gates are fused into blocks of up to {@value #DEFAULT_MAX_FUSED_QUBITS} qubits.
+     * </p>
      *
      * @param shots
      *            number of times to measure the circuit (must be &gt; 0)
@@ -28,7 +63,123 @@ public final class RunOptions {
      *             if shots &lt;= 0
      */
     public static RunOptions shots(int shots) {
-        return new RunOptions(shots);
+        if (shots <= 0)
+            throw new IllegalArgumentException("shots must be > 0");
+        return new RunOptions(shots, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD, DEFAULT_MAX_FUSED_QUBITS,
+                null, 0, false, 0L, null);
+    }
+
+    /**
+     * Return a copy of these options that runs gate kernels on the given pool.
+     *
+     * @param pool
+     *            the fork/join pool for parallel gate kernels, or null to run serially
+     *
+     * @return new RunOptions with the pool replaced
+     */
+    public RunOptions withParallelism(ForkJoinPool pool) {
+        return new RunOptions(shots, pool, parallelThreshold, maxFusedQubits, noise, priority, seeded, seed, cancelled);
+    }
+
+    /**
+     * Return a copy of these options with a different serial/parallel cut-over.
+     *
+     * @param minQubits
+     *            smallest state size (in qubits) for which gate kernels run in parallel (must be &ge; 1)
+     *
+     * @return new RunOptions with the threshold replaced
+     *
+     * @throws IllegalArgumentException
+     *             if minQubits &lt; 1
+     */
+    public RunOptions withParallelThreshold(int minQubits) {
+        if (minQubits < 1)
+            throw new IllegalArgumentException("parallelThreshold must be >= 1");
+        return new RunOptions(shots, pool, minQubits, maxFusedQubits, noise, priority, seeded, seed, cancelled);
+    }
+
+    /**
+     * Return a copy of these options with a different gate-fusion setting.
+     *
+     * @param maxQubits
+     *            maximum width of fused gate blocks (1 to {@link GateFusion#MAX_FUSED_QUBITS}), or 0 to disable
+     *            fusion
+     *
+     * @return new RunOptions with the fusion width replaced
+     *
+     * @throws IllegalArgumentException
+     *             if maxQubits is out of range
+     */
+    public RunOptions withFusion(int maxQubits) {
+        if (maxQubits < 0 || maxQubits > GateFusion.MAX_FUSED_QUBITS)
+            throw new IllegalArgumentException("maxFusedQubits must be between 0 and " + GateFusion.MAX_FUSED_QUBITS);
+        return new RunOptions(shots, pool, parallelThreshold, maxQubits, noise, priority, seeded, seed, cancelled);
+    }
+
+    /**
+     * Return a copy of these options that simulates the given noise.
+     * <p>
+     * Noise is honored by {@link DensityMatrixBackend} and by {@link StateVectorBackend#run} (as quantum
+     * trajectories); backends that cannot model it ignore it.
+     * </p>
+     *
+     * @param noise
+     *            the noise model, or null for an ideal run
+     *
+     * @return new RunOptions with the noise model replaced
+     */
+    public RunOptions withNoise(NoiseModel noise) {
+        return new RunOptions(shots, pool, parallelThreshold, maxFusedQubits, noise, priority, seeded, seed, cancelled);
+    }
+
+    /**
+     * Return a copy of these options with a scheduling priority.
+     * <p>
+     * Only used by {@link JobScheduler}: among queued jobs, higher priorities start first, and jobs of equal priority
+     * start in submission order.
+     * </p>
+     *
+     * @param priority
+     *            the priority (default 0)
+     *
+     * @return new RunOptions with the priority replaced
+     */
+    public RunOptions withPriority(int priority) {
+        return new RunOptions(shots, pool, parallelThreshold, maxFusedQubits, noise, priority, seeded, seed, cancelled);
+    }
+
+    /**
+     * Return a copy of these options that makes runs reproducible.
+     * <p>
+     * Every shot (or, where shots are drawn together, every run) takes its random stream from the seed and its own
+     * index, not from the thread that executes it. The same seed therefore gives the same counts with any pool or
+     * parallelism, including serial runs.
+     * </p>
+     *
+     * @param seed
+     *            the root seed
+     *
+     * @return new RunOptions with the seed set
+     */
+    public RunOptions withSeed(long seed) {
+        return new RunOptions(shots, pool, parallelThreshold, maxFusedQubits, noise, priority, true, seed, cancelled);
+    }
+
+    /** Copy that makes {@link #checkCancelled()} poll the given flag. */
+    RunOptions withCancellation(BooleanSupplier cancelled) {
+        return new RunOptions(shots, pool, parallelThreshold, maxFusedQubits, noise, priority, seeded, seed, cancelled);
+    }
+
+    /**
+     * Called by backends between instructions.
+     *
+     * @throws CancellationException
+     *             if the job running with these options has been cancelled
+     */
+    void checkCancelled() {
+        if (cancelled != null && cancelled.getAsBoolean()) {
+            throw new CancellationException("Job cancelled");
+        }
     }
 
     /**
@@ -39,4 +190,58 @@ public final class RunOptions {
     public int getShots() {
         return shots;
     }
+
+    /**
+     * Get the pool used for parallel gate kernels.
+     *
+     * @return the fork/join pool, or null if execution is serial
+     */
+    public ForkJoinPool getParallelism() {
+        return pool;
+    }
+
+    /**
+     * Get the minimum qubit count for parallel gate kernels.
+     *
+     * @return the parallel threshold in qubits
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Get the maximum width of fused gate blocks.
+     *
+     * @return the fusion width in qubits, or 0 if fusion is disabled
+     */
+    public int getMaxFusedQubits() {
+        return maxFusedQubits;
+    }
+
+    /**
+     * Get the noise model.
+     *
+     * @return the noise model, or null for an ideal run
+     */
+    public NoiseModel getNoise() {
+        return noise;
+    }
+
+    /**
+     * Get the root seed.
+     *
+     * @return the seed, or empty if every run draws fresh randomness
+     */
+    public OptionalLong getSeed() {
+        return seeded ? OptionalLong.of(seed) : OptionalLong.empty();
+    }
+
+    /**
+     * Get the scheduling priority.
+     *
+     * @return the priority, 0 by default
+     */
+    public int getPriority() {
+        return priority;
+    }
 }
@@ -0,0 +1,160 @@
+package io.quantum4j.core.backend;
+
+import io.quantum4j.core.circuit.Instruction;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import io.quantum4j.core.gates.CNOTGate;
+import io.quantum4j.core.gates.CZGate;
+import io.quantum4j.core.gates.Gate;
+import io.quantum4j.core.gates.SWAPGate;
+import io.quantum4j.core.gates.StandardGates;
+import io.quantum4j.core.math.StabilizerTableau;
+
+import java.util.List;
+
+/**
+ * Stabilizer-tableau simulator backend for Clifford circuits.
+ * <p>
+ * Supports H, S, X, Y, Z, CNOT, CZ and SWAP gates plus measurements, on any number of qubits, in polynomial time and
+ * memory (see {@link StabilizerTableau}). Circuits containing any other gate are rejected before simulation starts;
+ * {@link #firstNonCliffordGate(QuantumCircuit)} reports the offending instruction without throwing.
+ * </p>
+ * <p>
+ * The gates before the first measurement are applied once; every shot then continues from a copy of that tableau.
+ * Results use the same classical-register layout as {@link StateVectorBackend}.
+ * </p>
+ */
+public final class StabilizerBackend implements Backend {
+
+    /**
+     * Execute a Clifford circuit on this backend.
+     *
+     * @param circuit
+     *            the circuit to simulate
+     * @param options
+     *            execution options (only the shot count is used)
+     *
+     * @return measurement results aggregated from all shots
+     *
+     * @throws IllegalArgumentException
+     *             if the circuit contains a non-Clifford gate or an instruction addresses a qubit outside the circuit
+     */
+    @Override
+    public Result run(QuantumCircuit circuit, RunOptions options) {
+        int bad = firstNonCliffordGate(circuit);
+        if (bad >= 0) {
+            throw new IllegalArgumentException("Non-Clifford gate at instruction " + bad + ": "
+                    + circuit.getInstructions().get(bad).getGate().name());
+        }
+
+        int nQubits = circuit.getNumQubits();
+        List<Instruction> instructions = circuit.getInstructions();
+        for (Instruction inst : instructions) {
+            if (inst.getType() == Instruction.Type.MEASURE) {
+                int c = inst.getClassicalBits()[0];
+                if (c < 0 || c >= nQubits) {
+                    throw new IllegalArgumentException("Invalid classical bit index: " + c);
+                }
+            }
+        }
+
+        // deterministic prefix, shared by all shots
+        StabilizerTableau prefix = new StabilizerTableau(nQubits);
+        int start = 0;
+        while (start < instructions.size() && instructions.get(start).getType() == Instruction.Type.GATE) {
+            options.checkCancelled();
+            apply(prefix, instructions.get(start));
+            start++;
+        }
+
+        boolean measures = start < instructions.size();
+        OutcomeHistogram counts = new OutcomeHistogram(nQubits);
+        RandomStreams streams = RandomStreams.of(options);
+        for (int shot = 0; shot < options.getShots(); shot++) {
+            StabilizerTableau tableau = prefix.copy();
+            tableau.setRandom(streams.stream(shot));
+            int[] classicalRegister = new int[nQubits];
+
+            for (int i = start; i < instructions.size(); i++) {
+                options.checkCancelled();
+                Instruction inst = instructions.get(i);
+                if (inst.getType() == Instruction.Type.GATE) {
+                    apply(tableau, inst);
+                } else {
+                    classicalRegister[inst.getClassicalBits()[0]] = tableau.measure(inst.getQubits()[0]);
+                }
+            }
+            if (!measures) {
+                // no explicit measurements: report all qubits, like StateVectorBackend
+                for (int q = 0; q < nQubits; q++) {
+                    classicalRegister[q] = tableau.measure(q);
+                }
+            }
+
+            counts.add(classicalRegister, 1);
+        }
+        return new Result(counts);
+    }
+
+    /**
+     * Find the first gate this backend cannot simulate.
+     *
+     * @param circuit
+     *            the circuit to check
+     *
+     * @return the instruction index of the first non-Clifford gate, or -1 if the circuit is Clifford
+     */
+    public static int firstNonCliffordGate(QuantumCircuit circuit) {
+        List<Instruction> instructions = circuit.getInstructions();
+        for (int i = 0; i < instructions.size(); i++) {
+            Instruction inst = instructions.get(i);
+            if (inst.getType() == Instruction.Type.GATE && !isClifford(inst.getGate())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isClifford(Gate g) {
+        return g instanceof StandardGates.HGate || g instanceof StandardGates.SGate || g instanceof StandardGates.XGate
+                || g instanceof StandardGates.YGate || g instanceof StandardGates.ZGate || isCnot(g) || isCz(g)
+                || isSwap(g);
+    }
+
+    private static boolean isCnot(Gate g) {
+        return g instanceof CNOTGate || g instanceof StandardGates.CNOTGate;
+    }
+
+    private static boolean isCz(Gate g) {
+        return g instanceof CZGate || g instanceof StandardGates.CZGate;
+    }
+
+    private static boolean isSwap(Gate g) {
+        return g instanceof SWAPGate || g instanceof StandardGates.SWAPGate;
+    }
+
+    private static void apply(StabilizerTableau t, Instruction inst) {
+        Gate g = inst.getGate();
+        int[] qs = inst.getQubits();
+
+        if (g instanceof StandardGates.HGate)
+            t.h(qs[0]);
+        else if (g instanceof StandardGates.SGate)
+            t.s(qs[0]);
+        else if (g instanceof StandardGates.XGate)
+            t.x(qs[0]);
+        else if (g instanceof StandardGates.YGate)
+            t.y(qs[0]);
+        else if (g instanceof StandardGates.ZGate)
+            t.z(qs[0]);
+        else if (g instanceof StandardGates.CNOTGate)
+            t.cx(qs[1], qs[0]); // GateMatrices.CNOT flips the first qubit when the second is set
+        else if (isCnot(g))
+            t.cx(qs[0], qs[1]);
+        else if (isCz(g))
+            t.cz(qs[0], qs[1]);
+        else if (isSwap(g))
+            t.swap(qs[0], qs[1]);
+        else
+            throw new IllegalStateException("Unexpected gate: " + g.name());
+    }
+}
@@ -1,15 +1,24 @@
 package io.quantum4j.core.backend;
 
-import io.quantum4j.core.circuit.Instruction;
+import io.quantum4j.core.circuit.CompiledCircuit;
+import io.quantum4j.core.circuit.GateFusion;
 import io.quantum4j.core.circuit.QuantumCircuit;
 import io.quantum4j.core.gates.Gate;
-import io.quantum4j.core.gates.SingleQubitGate;
-import io.quantum4j.core.gates.TwoQubitGate;
-import io.quantum4j.core.gates.ThreeQubitGate;
+import io.quantum4j.core.math.MultinomialSampler;
+import io.quantum4j.core.math.PauliString;
+import io.quantum4j.core.math.PauliSum;
 import io.quantum4j.core.math.StateVector;
+import io.quantum4j.core.math.StateVectorPool;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * State-vector simulator backend for quantum circuits.
@@ -17,97 +26,635 @@ import java.util.Map;
  * Simulates quantum circuits using explicit state vectors and matrix multiplication. Each gate is applied as a unitary
  * transformation, and measurements collapse the state. Suitable for small to medium-sized circuits (up to ~20 qubits).
  * </p>
+ * <p>
+ * When every measurement comes after the last gate (or the circuit has no measurements at all), the state is evolved
+ * once and the whole shot histogram is drawn from the final distribution in a single pass. Circuits with mid-circuit
+ * measurements branch on each measurement: the shots are split binomially between the outcomes, and the state is only
+ * copied when both outcomes receive shots.
+ * </p>
+ * <p>
+ * Unless disabled with {@link RunOptions#withFusion(int)}, neighboring gates are first merged by {@link GateFusion} so
+ * that each pass over the amplitudes does more work. Circuits are compiled into a {@link CompiledCircuit} before
+ * they are run.
+ * </p>
+ * <p>
+ * With a {@link RunOptions#withNoise noise model}, every shot is simulated as an independent quantum trajectory in
+ * which each noise channel applies one randomly chosen Kraus operator. Trajectories run in parallel on the options'
+ * pool and need 2^n memory per worker, against 4^n for {@link DensityMatrixBackend}.
+ * </p>
+ * <p>
+ * State vectors are taken from and returned to a {@link StateVectorPool}, so repeated runs, branches and workers
+ * reuse their buffers instead of allocating new ones.
+ * </p>
  */
 public final class StateVectorBackend implements Backend {
 
+    private final StateVectorPool states;
+
+    /**
+     * Create a backend with its own state pool.
+     */
+    public StateVectorBackend() {
+        this(new StateVectorPool());
+    }
+
+    /**
+     * Create a backend that recycles state vectors through the given pool, which may be shared with other backends.
+     *
+     * @param states
+     *            the pool
+     */
+    public StateVectorBackend(StateVectorPool states) {
+        if (states == null)
+            throw new IllegalArgumentException("states must not be null");
+        this.states = states;
+    }
+
     /**
      * Execute a quantum circuit on this state-vector backend.
+     * <p>
+     * The circuit is compiled (and fused, per the options) on every call; use
+     * {@link #run(CompiledCircuit, RunOptions)} to reuse one plan.
+     * </p>
      *
      * @param circuit
      *            the circuit to simulate
      * @param options
-     *            execution options (number of shots)
+     *            execution options (number of shots, kernel parallelism)
      *
      * @return measurement results aggregated from all shots
      */
     @Override
     public Result run(QuantumCircuit circuit, RunOptions options) {
-        int nQubits = circuit.getNumQubits();
-        StateVector baseState = new StateVector(nQubits);
+        // noise is attached to the gates of the source circuit, so noisy runs are not fused
+        int fusion = isNoisy(options) ? 0 : options.getMaxFusedQubits();
+        return run(CompiledCircuit.compile(circuit, fusion), options);
+    }
 
-        Map<String, Integer> counts = new HashMap<>();
+    /**
+     * Execute a precompiled plan on this state-vector backend.
+     * <p>
+     * The fusion width in {@code options} is ignored; it was fixed when the plan was compiled. Noise is matched to the
+     * gate names of the plan, so plans for noisy runs must be compiled without fusion.
+     * </p>
+     *
+     * @param plan
+     *            the compiled circuit to simulate
+     * @param options
+     *            execution options (number of shots, kernel parallelism)
+     *
+     * @return measurement results aggregated from all shots
+     *
+     * @throws IllegalArgumentException
+     *             if the options carry a noise model and the plan is {@link CompiledCircuit#isFused() fused}
+     */
+    public Result run(CompiledCircuit plan, RunOptions options) {
+        if (isNoisy(options) && plan.isFused()) {
+            throw new IllegalArgumentException("Noisy runs need a plan compiled without fusion");
+        }
+        return run(plan, options, RandomStreams.of(options));
+    }
 
-        for (int shot = 0; shot < options.getShots(); shot++) {
+    private Result run(CompiledCircuit plan, RunOptions options, RandomStreams streams) {
+        if (isNoisy(options)) {
+            return runTrajectories(plan, options, streams);
+        }
+        StateVector baseState = states.acquire(plan.getNumQubits());
+        baseState.setParallelism(options.getParallelism(), options.getParallelThreshold());
+        try {
+            return execute(plan, baseState, options, streams.root());
+        } finally {
+            states.release(baseState);
+        }
+    }
 
-            StateVector state = baseState.copy();
-            int[] classicalRegister = new int[nQubits]; // for measure instructions
+    /**
+     * Execute a parameterized circuit once per row of parameter values.
+     * <p>
+     * The template is compiled once and every row only rebinds its parameterized gates. Rows are handed out to up to
+     * {@code parallelism} workers of the options' pool; each worker keeps one state vector and resets it between rows.
+     * Gate kernels inside a row run serially, since the rows already occupy the pool. A single row, or a run without a
+     * pool, is evaluated on the calling thread. With a noise model the template is compiled without fusion and every
+     * row is simulated as trajectories.
+     * </p>
+     *
+     * @param template
+     *            circuit with symbolic parameters
+     * @param parameterValues
+     *            one row per assignment, each with one value per parameter
+     * @param options
+     *            execution options applied to every assignment
+     *
+     * @return one result per row, in input order
+     *
+     * @throws IllegalArgumentException
+     *             if a row does not have one value per parameter
+     */
+    @Override
+    public List<Result> runBatch(QuantumCircuit template, double[][] parameterValues, RunOptions options) {
+        boolean noisy = isNoisy(options);
+        CompiledCircuit plan = CompiledCircuit.compile(template, noisy ? 0 : options.getMaxFusedQubits());
+        int paramCount = plan.getParameters().size();
+        for (double[] row : parameterValues) {
+            if (row.length != paramCount) {
+                throw new IllegalArgumentException("Expected " + paramCount + " parameter values, got " + row.length);
+            }
+        }
 
-            for (Instruction inst : circuit.getInstructions()) {
+        int rows = parameterValues.length;
+        Result[] results = new Result[rows];
+        RandomStreams streams = RandomStreams.of(options);
+        ForkJoinPool pool = options.getParallelism();
+        int workers = (pool == null) ? 1 : Math.min(pool.getParallelism(), rows);
+        AtomicInteger next = new AtomicInteger();
 
-                switch (inst.getType()) {
+        RunOptions serial = workers == 1 ? options : options.withParallelism(null);
+        Runnable worker = noisy ? () -> {
+            for (int i = next.getAndIncrement(); i < rows; i = next.getAndIncrement()) {
+                results[i] = runTrajectories(plan.bind(parameterValues[i]), serial, streams.child(i));
+            }
+        } : () -> {
+            StateVector state = states.acquire(plan.getNumQubits());
+            state.setParallelism(workers == 1 ? pool : null, options.getParallelThreshold());
+            try {
+                for (int i = next.getAndIncrement(); i < rows; i = next.getAndIncrement()) {
+                    state.reset();
+                    results[i] = execute(plan.bind(parameterValues[i]), state, options, streams.stream(i));
+                }
+            } finally {
+                states.release(state);
+            }
+        };
+
+        if (workers <= 1) {
+            worker.run();
+        } else {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                tasks.add(pool.submit(worker));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        }
+        return Arrays.asList(results);
+    }
 
-                case GATE: {
-                    Gate gate = inst.getGate();
-                    int[] qs = inst.getQubits();
+    /**
+     * Execute a list of independent circuits, spreading them over the options' pool.
+     * <p>
+     * Circuits are ordered by estimated cost (instruction count × 2^qubits), largest first. Circuits of at least
+     * {@code parallelThreshold} qubits then run one at a time on the calling thread with parallel gate kernels. The
+     * remaining small circuits are pulled off a shared counter by up to {@code parallelism} workers, each running one
+     * circuit at a time with serial kernels. Largest-first hand-out keeps a late expensive circuit from leaving the
+     * other workers idle. States come from the backend's pool, so a batch of equally sized circuits allocates at most
+     * one state per worker. Noisy runs are simulated as trajectories, circuit by circuit.
+     * </p>
+     *
+     * @param circuits
+     *            the circuits to simulate
+     * @param options
+     *            execution options applied to every circuit
+     *
+     * @return one result per circuit, in input order
+     */
+    @Override
+    public List<Result> run(List<QuantumCircuit> circuits, RunOptions options) {
+        int count = circuits.size();
+        Result[] results = new Result[count];
+        int fusion = isNoisy(options) ? 0 : options.getMaxFusedQubits();
+        ForkJoinPool pool = options.getParallelism();
+        RandomStreams streams = RandomStreams.of(options);
 
-                    if (gate instanceof SingleQubitGate) {
-                        ((SingleQubitGate) gate).apply(state, qs[0]);
+        Integer[] order = new Integer[count];
+        double[] cost = new double[count];
+        for (int i = 0; i < count; i++) {
+            QuantumCircuit c = circuits.get(i);
+            order[i] = i;
+            cost[i] = Math.scalb((double) Math.max(1, c.getInstructions().size()), c.getNumQubits());
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(cost[b], cost[a]));
 
-                    } else if (gate instanceof TwoQubitGate) {
-                        ((TwoQubitGate) gate).apply(state, qs[0], qs[1]);
+        // large circuits first, each using the whole pool inside its gate kernels
+        int first = 0;
+        while (pool != null && first < count
+                && circuits.get(order[first]).getNumQubits() >= options.getParallelThreshold()) {
+            int i = order[first++];
+            results[i] = run(CompiledCircuit.compile(circuits.get(i), fusion), options, streams.child(i));
+        }
 
-                    } else if (gate instanceof ThreeQubitGate) {
-                        ((ThreeQubitGate) gate).apply(state, qs[0], qs[1], qs[2]);
+        int remaining = count - first;
+        if (remaining == 0) {
+            return Arrays.asList(results);
+        }
+        int workers = (pool == null) ? 1 : Math.min(pool.getParallelism(), remaining);
+        RunOptions serial = workers == 1 ? options : options.withParallelism(null);
+        AtomicInteger next = new AtomicInteger(first);
 
-                    } else {
-                        throw new UnsupportedOperationException(
-                                "Unsupported gate type: " + gate.getClass().getSimpleName());
-                    }
-                    break;
+        Runnable worker = () -> {
+            for (int k = next.getAndIncrement(); k < count; k = next.getAndIncrement()) {
+                int i = order[k];
+                CompiledCircuit plan = CompiledCircuit.compile(circuits.get(i), fusion);
+                if (isNoisy(serial)) {
+                    results[i] = runTrajectories(plan, serial, streams.child(i));
+                    continue;
                 }
+                StateVector state = states.acquire(plan.getNumQubits());
+                state.setParallelism(serial.getParallelism(), serial.getParallelThreshold());
+                try {
+                    results[i] = execute(plan, state, serial, streams.child(i).root());
+                } finally {
+                    states.release(state);
+                }
+            }
+        };
 
-                case MEASURE: {
-                    int q = inst.getQubits()[0];
-                    int c = inst.getClassicalBits()[0];
+        if (workers <= 1) {
+            worker.run();
+        } else {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                tasks.add(pool.submit(worker));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        }
+        return Arrays.asList(results);
+    }
 
-                    int measuredBit = state.measureOne(q); // you already added this
-                    classicalRegister[c] = measuredBit;
-                    break;
+    /**
+     * Compute the exact expectation value of an observable in the state prepared by a circuit.
+     *
+     * @param circuit
+     *            the state-preparation circuit; terminal measurements are ignored
+     * @param observable
+     *            the weighted Pauli sum to evaluate
+     * @param options
+     *            execution options (kernel parallelism and fusion; the shot count is not used)
+     *
+     * @return ⟨ψ|H|ψ⟩ for the final state ψ
+     *
+     * @throws IllegalArgumentException
+     *             if the circuit measures before its last gate, or the observable acts outside the circuit
+     */
+    public double expectation(QuantumCircuit circuit, PauliSum observable, RunOptions options) {
+        return expectation(CompiledCircuit.compile(circuit, options.getMaxFusedQubits()), observable, options);
+    }
+
+    /**
+     * Compute the exact expectation value of an observable in the state prepared by a precompiled plan.
+     * <p>
+     * The state is evolved once and the observable is read from the final amplitudes (see
+     * {@link StateVector#expectation(PauliSum)}), so the result carries no shot noise.
+     * </p>
+     *
+     * @param plan
+     *            the bound state-preparation plan; terminal measurements are ignored
+     * @param observable
+     *            the weighted Pauli sum to evaluate
+     * @param options
+     *            execution options (kernel parallelism; the shot count is not used)
+     *
+     * @return ⟨ψ|H|ψ⟩ for the final state ψ
+     *
+     * @throws IllegalArgumentException
+     *             if the plan measures before its last gate, or the observable acts outside the circuit
+     */
+    public double expectation(CompiledCircuit plan, PauliSum observable, RunOptions options) {
+        if (!plan.hasOnlyTerminalMeasurements()) {
+            throw new IllegalArgumentException("Expectation values require measurements to be terminal");
+        }
+        StateVector state = states.acquire(plan.getNumQubits());
+        state.setParallelism(options.getParallelism(), options.getParallelThreshold());
+        try {
+            for (int i = 0; i < plan.size(); i++) {
+                if (plan.opcode(i) == CompiledCircuit.OP_GATE) {
+                    plan.gate(i).apply(state, plan.qubits(i));
                 }
+            }
+            return state.expectation(observable);
+        } finally {
+            states.release(state);
+        }
+    }
+
+    /**
+     * Compute the gradient of an expectation value with respect to all parameters of a circuit.
+     *
+     * @param template
+     *            circuit with symbolic parameters; terminal measurements are ignored
+     * @param values
+     *            the point at which to differentiate, one value per parameter
+     * @param observable
+     *            the weighted Pauli sum whose expectation value is differentiated
+     * @param options
+     *            execution options (kernel parallelism and fusion; the shot count is not used)
+     *
+     * @return ∂⟨H⟩/∂θ_p for every parameter, in the order of {@link QuantumCircuit#getParameters()}
+     *
+     * @throws IllegalArgumentException
+     *             if the values do not match the parameters, the circuit measures before its last gate, or the
+     *             observable acts outside the circuit
+     */
+    public double[] gradient(QuantumCircuit template, double[] values, PauliSum observable, RunOptions options) {
+        return gradient(CompiledCircuit.compile(template, options.getMaxFusedQubits()), values, observable, options);
+    }
+
+    /**
+     * Compute the gradient of an expectation value with adjoint differentiation.
+     * <p>
+     * The state ψ is evolved forward once and the co-state λ = H|ψ⟩ is formed. Walking the plan backwards, each
+     * parameterized rotation exp(-iθP/2) contributes Im⟨λ|P|ψ⟩ to its parameter's derivative, and then both states are
+     * stepped back through the inverse gate. The cost is about three circuit evaluations however many parameters there
+     * are, using two state buffers. Parameters used by several rotations get the sum of their contributions.
+     * </p>
+     *
+     * @param template
+     *            compiled circuit with symbolic parameters; terminal measurements are ignored
+     * @param values
+     *            the point at which to differentiate, one value per parameter
+     * @param observable
+     *            the weighted Pauli sum whose expectation value is differentiated
+     * @param options
+     *            execution options (kernel parallelism; the shot count is not used)
+     *
+     * @return ∂⟨H⟩/∂θ_p for every parameter, in the order of {@link CompiledCircuit#getParameters()}
+     *
+     * @throws IllegalArgumentException
+     *             if the values do not match the parameters, the plan measures before its last gate, or the observable
+     *             acts outside the circuit
+     */
+    public double[] gradient(CompiledCircuit template, double[] values, PauliSum observable, RunOptions options) {
+        if (!template.hasOnlyTerminalMeasurements()) {
+            throw new IllegalArgumentException("Gradients require measurements to be terminal");
+        }
+        CompiledCircuit plan = template.bind(values);
 
-                default:
-                    throw new IllegalStateException("Unknown instruction type: " + inst.getType());
+        StateVector psi = states.acquire(plan.getNumQubits());
+        StateVector lambda = null;
+        psi.setParallelism(options.getParallelism(), options.getParallelThreshold());
+        try {
+            for (int i = 0; i < plan.size(); i++) {
+                if (plan.opcode(i) == CompiledCircuit.OP_GATE) {
+                    plan.gate(i).apply(psi, plan.qubits(i));
                 }
             }
+            lambda = psi.multiply(observable);
 
-            // If circuit has explicit MEASURE instructions: use classical bits.
-            // Otherwise measure all qubits at the end (backward compatibility).
-            String outcome;
-            if (containsMeasurements(circuit)) {
-                outcome = buildClassicalString(classicalRegister);
-            } else {
-                outcome = state.measureAll();
+            double[] gradient = new double[values.length];
+            for (int i = plan.size() - 1; i >= 0; i--) {
+                if (plan.opcode(i) != CompiledCircuit.OP_GATE)
+                    continue;
+                int[] qubits = plan.qubits(i);
+
+                int p = plan.parameterIndex(i);
+                if (p >= 0) {
+                    long bit = 1L << qubits[0];
+                    PauliString generator;
+                    switch (plan.parameterizedGate(i).getAxis()) {
+                    case X:
+                        generator = PauliString.of(bit, 0);
+                        break;
+                    case Y:
+                        generator = PauliString.of(bit, bit);
+                        break;
+                    default:
+                        generator = PauliString.of(0, bit);
+                        break;
+                    }
+                    gradient[p] += psi.matrixElement(lambda, generator).getIm();
+                }
+
+                Gate inverse = plan.gate(i).inverse();
+                inverse.apply(psi, qubits);
+                inverse.apply(lambda, qubits);
+            }
+            return gradient;
+        } finally {
+            states.release(psi);
+            if (lambda != null) {
+                states.release(lambda);
+            }
+        }
+    }
+
+    /**
+     * Run a bound plan starting from {@code baseState}, which must be |00...0⟩. Both paths evolve the state in place;
+     * the caller still owns it afterwards.
+     */
+    private Result execute(CompiledCircuit plan, StateVector baseState, RunOptions options, SplittableRandom random) {
+        baseState.setRandom(random);
+        if (plan.hasOnlyTerminalMeasurements()) {
+            return runSampled(plan, baseState, options);
+        }
+        return runBranching(plan, baseState, options, random);
+    }
+
+    /**
+     * Simulate a circuit with mid-circuit measurements by branching on outcomes instead of re-running every shot.
+     * <p>
+     * A branch is a state, the next step, its share of the shots and the classical register so far. Gates are applied
+     * once per branch. At a measurement the branch's shots are split between the outcomes with one binomial draw from
+     * the outcome probability; if both outcomes receive shots the state is copied for one of them, otherwise the single
+     * surviving outcome collapses the state in place. The deterministic prefix is therefore simulated once, and the
+     * total work grows with the number of distinct branches rather than with the shot count. Branches are explored
+     * depth first, so at most one pending state per measurement depth is alive. {@code baseState} is consumed.
+     * </p>
+     */
+    private Result runBranching(CompiledCircuit plan, StateVector baseState, RunOptions options,
+            SplittableRandom random) {
+        OutcomeHistogram counts = new OutcomeHistogram(plan.getNumQubits());
+        Deque<Branch> pending = new ArrayDeque<>();
+        pending.push(new Branch(baseState, 0, options.getShots(), 0L));
+
+        while (!pending.isEmpty()) {
+            Branch b = pending.pop();
+            StateVector state = b.state;
+            int i = b.step;
+            for (; i < plan.size(); i++) {
+                options.checkCancelled();
+                if (plan.opcode(i) == CompiledCircuit.OP_GATE) {
+                    plan.gate(i).apply(state, plan.qubits(i));
+                    continue;
+                }
+                int qubit = plan.qubits(i)[0];
+                long bit = 1L << plan.classicalBit(i);
+                double p1 = state.probabilityOfOne(qubit);
+                int ones = MultinomialSampler.binomial(b.shots, p1, random);
+                int zeros = b.shots - ones;
+                if (zeros > 0 && ones > 0) {
+                    StateVector other = states.acquireCopy(state);
+                    other.collapse(qubit, 1, p1);
+                    pending.push(new Branch(other, i + 1, ones, b.register | bit));
+                    b.shots = zeros;
+                }
+                int outcome = ones > 0 && zeros == 0 ? 1 : 0;
+                double p = outcome == 1 ? p1 : 1.0 - p1;
+                if (p < 1.0) {
+                    state.collapse(qubit, outcome, p);
+                }
+                b.register = outcome == 1 ? b.register | bit : b.register & ~bit;
+            }
+            counts.add(b.register, b.shots);
+            if (state != baseState) {
+                states.release(state);
             }
+        }
+        return new Result(counts);
+    }
+
+    /** A partially simulated group of shots that share every measurement outcome so far. */
+    private static final class Branch {
+        final StateVector state;
+        final int step;
+        int shots;
+        long register; // classical bit c is bit c
+
+        Branch(StateVector state, int step, int shots, long register) {
+            this.state = state;
+            this.step = step;
+            this.shots = shots;
+            this.register = register;
+        }
+    }
 
-            counts.merge(outcome, 1, Integer::sum);
+    /**
+     * Simulate once and draw the shot histogram from the final distribution.
+     * <p>
+     * Only valid when no gate follows a measurement: the measured qubits are then never disturbed again, so each shot
+     * is an independent sample of the final state. Without explicit measurements all qubits are reported (backward
+     * compatibility with {@link StateVector#measureAll()}).
+     * </p>
+     */
+    private Result runSampled(CompiledCircuit plan, StateVector state, RunOptions options) {
+        int nQubits = plan.getNumQubits();
+        for (int i = 0; i < plan.size(); i++) {
+            options.checkCancelled();
+            if (plan.opcode(i) == CompiledCircuit.OP_GATE) {
+                plan.gate(i).apply(state, plan.qubits(i));
+            }
         }
 
+        OutcomeHistogram counts = new OutcomeHistogram(nQubits);
+        int measurements = plan.measurementCount();
+
+        // one multinomial draw for all shots; the basis index maps straight to a packed register
+        state.sampleCounts(options.getShots(), (index, count) -> {
+            if (measurements == 0) {
+                counts.add(index, count);
+                return;
+            }
+            long register = 0L;
+            for (int m = 0; m < measurements; m++) {
+                long bit = 1L << plan.measuredClassicalBit(m);
+                register = ((index >>> plan.measuredQubit(m)) & 1L) != 0 ? register | bit : register & ~bit;
+            }
+            counts.add(register, count);
+        });
+
         return new Result(counts);
     }
 
     // --------------------------------------------------------------
-    // Helpers
+    // Noisy simulation
     // --------------------------------------------------------------
 
-    private boolean containsMeasurements(QuantumCircuit circuit) {
-        return circuit.getInstructions().stream().anyMatch(i -> i.getType() == Instruction.Type.MEASURE);
+    private static boolean isNoisy(RunOptions options) {
+        return options.getNoise() != null && !options.getNoise().isEmpty();
     }
 
-    private String buildClassicalString(int[] classicalRegister) {
-        StringBuilder sb = new StringBuilder();
-        for (int bit : classicalRegister) {
-            sb.append(bit);
+    /**
+     * Simulate a noisy circuit as independent quantum trajectories, one per shot.
+     * <p>
+     * Shots are handed out to up to {@code parallelism} workers of the options' pool. Each worker owns one state
+     * vector, reset between trajectories, and its own histogram; the histograms are merged at the end. Every shot draws
+     * from its own stream of {@code streams}, so the counts do not depend on how shots are spread over workers. Memory
+     * is one 2^n state per worker. Gate kernels run serially unless there is a single worker.
+     * </p>
+     */
+    private Result runTrajectories(CompiledCircuit plan, RunOptions options, RandomStreams streams) {
+        TrajectoryNoise noise = new TrajectoryNoise(plan, options.getNoise());
+        int shots = options.getShots();
+        ForkJoinPool pool = options.getParallelism();
+        int workers = (pool == null) ? 1 : Math.min(pool.getParallelism(), shots);
+        AtomicInteger next = new AtomicInteger();
+
+        List<OutcomeHistogram> histograms = new ArrayList<>(workers);
+        List<Runnable> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            OutcomeHistogram counts = new OutcomeHistogram(plan.getNumQubits());
+            histograms.add(counts);
+            tasks.add(() -> {
+                StateVector state = states.acquire(plan.getNumQubits());
+                state.setParallelism(workers == 1 ? pool : null, options.getParallelThreshold());
+                int[] classicalRegister = new int[plan.getNumQubits()];
+                try {
+                    for (int shot = next.getAndIncrement(); shot < shots; shot = next.getAndIncrement()) {
+                        SplittableRandom random = streams.stream(shot);
+                        state.reset();
+                        state.setRandom(random);
+                        runTrajectory(plan, noise, state, random, classicalRegister, options);
+                        counts.add(classicalRegister, 1);
+                    }
+                } finally {
+                    states.release(state);
+                }
+            });
+        }
+
+        if (workers <= 1) {
+            tasks.get(0).run();
+        } else {
+            List<ForkJoinTask<?>> running = new ArrayList<>(workers);
+            for (Runnable task : tasks) {
+                running.add(pool.submit(task));
+            }
+            for (ForkJoinTask<?> task : running) {
+                task.join();
+            }
+        }
+
+        OutcomeHistogram merged = histograms.get(0);
+        for (int w = 1; w < workers; w++) {
+            merged.addAll(histograms.get(w));
         }
-        return sb.toString();
+        return new Result(merged);
     }
+
+    /** Run one trajectory from |0...0⟩ and write its (readout-noisy) classical register. */
+    private static void runTrajectory(CompiledCircuit plan, TrajectoryNoise noise, StateVector state,
+            SplittableRandom random, int[] classicalRegister, RunOptions options) {
+        Arrays.fill(classicalRegister, 0);
+        boolean terminal = plan.hasOnlyTerminalMeasurements();
+        for (int i = 0; i < plan.size(); i++) {
+            options.checkCancelled();
+            if (plan.opcode(i) == CompiledCircuit.OP_GATE) {
+                plan.gate(i).apply(state, plan.qubits(i));
+                noise.afterGate(i, state, random);
+            } else if (!terminal) {
+                int bit = state.measureOne(plan.qubits(i)[0]);
+                classicalRegister[plan.classicalBit(i)] = noise.readout(bit, random);
+            }
+        }
+        if (!terminal) {
+            return;
+        }
+
+        // terminal measurements: one sample of the final state covers all of them
+        int measurements = plan.measurementCount();
+        state.sampleCounts(1, (index, count) -> {
+            if (measurements == 0) {
+                for (int q = 0; q < classicalRegister.length; q++) {
+                    classicalRegister[q] = noise.readout((int) ((index >>> q) & 1), random);
+                }
+            } else {
+                for (int m = 0; m < measurements; m++) {
+                    int bit = (int) ((index >>> plan.measuredQubit(m)) & 1);
+                    classicalRegister[plan.measuredClassicalBit(m)] = noise.readout(bit, random);
+                }
+            }
+        });
+    }
+
 }
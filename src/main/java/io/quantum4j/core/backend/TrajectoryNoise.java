@@ -0,0 +1,182 @@
+package io.quantum4j.core.backend;
+
+import io.quantum4j.core.circuit.CompiledCircuit;
+import io.quantum4j.core.math.StateVector;
+import io.quantum4j.core.noise.KrausChannel;
+import io.quantum4j.core.noise.NoiseModel;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Quantum-trajectory (Monte Carlo wavefunction) unraveling of a {@link NoiseModel} for one plan.
+ * <p>
+ * After a noisy gate step, each attached channel picks one Kraus operator K with probability ‖K·ψ‖² and replaces ψ by
+ * K·ψ/‖K·ψ‖, so averaging many trajectories reproduces the density-matrix result. For mixed-unitary channels
+ * (depolarizing, bit and phase flip), where every K†K is a multiple of the identity, the probabilities do not depend on
+ * the state and are fixed up front; the identity branch then costs nothing. Other channels (damping) read their
+ * probabilities from the reduced density matrix of the target qubits, one pass over the state.
+ * </p>
+ * <p>
+ * Instances are immutable after construction; the random stream is passed in, so one instance serves all workers.
+ * </p>
+ */
+final class TrajectoryNoise {
+
+    private static final double TOLERANCE = 1e-12;
+
+    private final NoiseSchedule schedule;
+    private final Map<KrausChannel, Unraveling> unravelings = new IdentityHashMap<>();
+    private final double readout0to1;
+    private final double readout1to0;
+
+    TrajectoryNoise(CompiledCircuit plan, NoiseModel noise) {
+        this.schedule = new NoiseSchedule(plan, noise);
+        for (int i = 0; i < plan.size(); i++) {
+            for (KrausChannel channel : schedule.channels(i)) {
+                unravelings.computeIfAbsent(channel, Unraveling::new);
+            }
+        }
+        this.readout0to1 = noise.getReadoutError0to1();
+        this.readout1to0 = noise.getReadoutError1to0();
+    }
+
+    /** Apply one sampled Kraus operator of every channel that follows a step. */
+    void afterGate(int step, StateVector state, SplittableRandom random) {
+        KrausChannel[] channels = schedule.channels(step);
+        int[][] targets = schedule.targets(step);
+        for (int c = 0; c < channels.length; c++) {
+            unravelings.get(channels[c]).apply(state, targets[c], random);
+        }
+    }
+
+    /** Pass a measured bit through the readout error. */
+    int readout(int bit, SplittableRandom random) {
+        double flip = bit == 0 ? readout0to1 : readout1to0;
+        return flip > 0.0 && random.nextDouble() < flip ? bit ^ 1 : bit;
+    }
+
+    /** Precomputed sampling data for one channel. */
+    private static final class Unraveling {
+        final int dim;
+        final double[][] operators;
+        final double[][] gram; // K†K per operator
+        final double[] fixedWeights; // non-null for mixed-unitary channels
+        final double[][] unitaries; // K/sqrt(w), null entries for identity branches
+
+        Unraveling(KrausChannel channel) {
+            int k = channel.getNumQubits();
+            dim = 1 << k;
+            operators = new double[channel.size()][];
+            gram = new double[channel.size()][];
+            for (int i = 0; i < operators.length; i++) {
+                operators[i] = channel.getOperator(i);
+                gram[i] = gram(operators[i], dim);
+            }
+
+            double[] weights = new double[operators.length];
+            boolean mixedUnitary = true;
+            for (int i = 0; i < operators.length && mixedUnitary; i++) {
+                weights[i] = gram[i][0];
+                mixedUnitary = isScaledIdentity(gram[i], dim, weights[i]);
+            }
+            if (mixedUnitary) {
+                fixedWeights = weights;
+                unitaries = new double[operators.length][];
+                for (int i = 0; i < operators.length; i++) {
+                    if (weights[i] <= 0.0)
+                        continue;
+                    double[] u = scaled(operators[i], 1 / Math.sqrt(weights[i]));
+                    unitaries[i] = isScaledIdentity(u, dim, 1.0) ? null : u;
+                }
+            } else {
+                fixedWeights = null;
+                unitaries = null;
+            }
+        }
+
+        void apply(StateVector state, int[] qubits, SplittableRandom random) {
+            if (fixedWeights != null) {
+                int pick = choose(fixedWeights, random);
+                if (unitaries[pick] != null) {
+                    state.applyMatrix(unitaries[pick], qubits);
+                }
+                return;
+            }
+
+            double[] rho = state.reducedDensityMatrix(qubits);
+            double[] p = new double[operators.length];
+            for (int i = 0; i < operators.length; i++) {
+                // Tr(K†K ρ) = Σ_ab (K†K)[a, b] ρ[b, a]
+                double sum = 0;
+                for (int a = 0; a < dim; a++) {
+                    for (int b = 0; b < dim; b++) {
+                        int ab = 2 * (a * dim + b), ba = 2 * (b * dim + a);
+                        sum += gram[i][ab] * rho[ba] - gram[i][ab + 1] * rho[ba + 1];
+                    }
+                }
+                p[i] = Math.max(sum, 0.0);
+            }
+            int pick = choose(p, random);
+            state.applyMatrix(scaled(operators[pick], 1 / Math.sqrt(p[pick])), qubits);
+        }
+
+        private static int choose(double[] weights, SplittableRandom random) {
+            double total = 0;
+            for (double w : weights) {
+                total += w;
+            }
+            double r = random.nextDouble() * total;
+            int last = 0;
+            for (int i = 0; i < weights.length; i++) {
+                if (weights[i] <= 0.0)
+                    continue;
+                last = i;
+                r -= weights[i];
+                if (r < 0)
+                    return i;
+            }
+            return last;
+        }
+
+        private static double[] gram(double[] k, int d) {
+            double[] g = new double[2 * d * d];
+            for (int a = 0; a < d; a++) {
+                for (int b = 0; b < d; b++) {
+                    double re = 0, im = 0;
+                    for (int i = 0; i < d; i++) {
+                        // conj(K[i, a]) * K[i, b]
+                        double xr = k[2 * (i * d + a)], xi = k[2 * (i * d + a) + 1];
+                        double yr = k[2 * (i * d + b)], yi = k[2 * (i * d + b) + 1];
+                        re += xr * yr + xi * yi;
+                        im += xr * yi - xi * yr;
+                    }
+                    g[2 * (a * d + b)] = re;
+                    g[2 * (a * d + b) + 1] = im;
+                }
+            }
+            return g;
+        }
+
+        private static boolean isScaledIdentity(double[] m, int d, double scale) {
+            for (int a = 0; a < d; a++) {
+                for (int b = 0; b < d; b++) {
+                    double expected = a == b ? scale : 0.0;
+                    if (Math.abs(m[2 * (a * d + b)] - expected) > TOLERANCE
+                            || Math.abs(m[2 * (a * d + b) + 1]) > TOLERANCE)
+                        return false;
+                }
+            }
+            return true;
+        }
+
+        private static double[] scaled(double[] m, double factor) {
+            double[] s = new double[m.length];
+            for (int i = 0; i < m.length; i++) {
+                s[i] = m[i] * factor;
+            }
+            return s;
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package io.quantum4j.core.circuit;
+
+import io.quantum4j.core.gates.Gate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flat, validated execution plan for a {@link QuantumCircuit}.
+ * <p>
+ * Compiling runs gate fusion (optional), checks every qubit and classical index once, and lays the instructions out
+ * as parallel arrays: an opcode per step, the gate (whose matrix is already classified and flattened for the
+ * state-vector kernels), the target qubits, and the classical bit for measurements. Backends walk these arrays in a
+ * plain indexed loop, and one plan can be reused across shots and across calls to
+ * {@link io.quantum4j.core.backend.StateVectorBackend#run(CompiledCircuit, io.quantum4j.core.backend.RunOptions)}.
+ * </p>
+ * <p>
+ * The classical register has one bit per qubit, as in {@link QuantumCircuit#measureAll()}. Plans are immutable and
+ * safe to share between threads.
+ * </p>
+ * <p>
+ * A circuit with {@link Parameter}s compiles to a template whose parameterized rotations stay in their own steps (they
+ * are never fused). {@link #bind(double...)} turns it into an executable plan by replacing just those steps.
+ * </p>
+ */
+public final class CompiledCircuit {
+
+    /** opcode of a gate step */
+    public static final byte OP_GATE = 0;
+
+    /** opcode of a single-qubit measurement step */
+    public static final byte OP_MEASURE = 1;
+
+    private final int numQubits;
+    private final boolean fused;
+    private final byte[] opcodes;
+    private final Gate[] gates; // null for measurements
+    private final int[][] qubits;
+    private final int[] classicalBits; // -1 for gates
+    private final int[] measuredQubits;
+    private final int[] measuredClassicalBits;
+    private final boolean terminalMeasurements;
+    private final Parameter[] parameters;
+    private final int[] parameterSteps; // steps holding a ParameterizedGate
+    private final int[] parameterSlots; // value index of each of those steps
+    private final ParameterizedGate[] placeholders;
+    private final int[] stepSlots; // index into the parameterSteps arrays per step, or -1
+
+    private CompiledCircuit(QuantumCircuit circuit, boolean fused) {
+        List<Instruction> instructions = circuit.getInstructions();
+        int size = instructions.size();
+        numQubits = circuit.getNumQubits();
+        this.fused = fused;
+        opcodes = new byte[size];
+        gates = new Gate[size];
+        qubits = new int[size][];
+        classicalBits = new int[size];
+
+        int measurements = 0;
+        boolean measured = false;
+        boolean terminal = true;
+        for (int i = 0; i < size; i++) {
+            Instruction inst = instructions.get(i);
+            int[] qs = inst.getQubits().clone();
+            for (int q : qs) {
+                checkIndex(q, "qubit");
+            }
+            qubits[i] = qs;
+
+            if (inst.getType() == Instruction.Type.MEASURE) {
+                opcodes[i] = OP_MEASURE;
+                classicalBits[i] = checkIndex(inst.getClassicalBits()[0], "classical bit");
+                measurements++;
+                measured = true;
+            } else {
+                Gate gate = inst.getGate();
+                if (gate.arity() != qs.length) {
+                    throw new IllegalArgumentException(
+                            "Gate " + gate.name() + " expects " + gate.arity() + " qubits, got " + qs.length);
+                }
+                for (int a = 0; a < qs.length; a++) {
+                    for (int b = a + 1; b < qs.length; b++) {
+                        if (qs[a] == qs[b])
+                            throw new IllegalArgumentException("Duplicate qubit index: " + qs[a]);
+                    }
+                }
+                opcodes[i] = OP_GATE;
+                gates[i] = gate;
+                classicalBits[i] = -1;
+                terminal &= !measured;
+            }
+        }
+        terminalMeasurements = terminal;
+
+        measuredQubits = new int[measurements];
+        measuredClassicalBits = new int[measurements];
+        for (int i = 0, m = 0; i < size; i++) {
+            if (opcodes[i] == OP_MEASURE) {
+                measuredQubits[m] = qubits[i][0];
+                measuredClassicalBits[m] = classicalBits[i];
+                m++;
+            }
+        }
+
+        Map<Parameter, Integer> index = QuantumCircuit.parameterIndex(instructions);
+        parameters = index.keySet().toArray(new Parameter[0]);
+        int parameterized = 0;
+        for (Gate g : gates) {
+            if (g instanceof ParameterizedGate)
+                parameterized++;
+        }
+        parameterSteps = new int[parameterized];
+        parameterSlots = new int[parameterized];
+        placeholders = new ParameterizedGate[parameterized];
+        stepSlots = new int[size];
+        for (int i = 0, p = 0; i < size; i++) {
+            stepSlots[i] = -1;
+            if (gates[i] instanceof ParameterizedGate) {
+                stepSlots[i] = p;
+                ParameterizedGate g = (ParameterizedGate) gates[i];
+                parameterSteps[p] = i;
+                parameterSlots[p] = index.get(g.getParameter());
+                placeholders[p] = g;
+                p++;
+            }
+        }
+    }
+
+    /** Copy of {@code template} with its own gate array; every other array is shared. */
+    private CompiledCircuit(CompiledCircuit template, Gate[] gates) {
+        this.numQubits = template.numQubits;
+        this.fused = template.fused;
+        this.opcodes = template.opcodes;
+        this.gates = gates;
+        this.qubits = template.qubits;
+        this.classicalBits = template.classicalBits;
+        this.measuredQubits = template.measuredQubits;
+        this.measuredClassicalBits = template.measuredClassicalBits;
+        this.terminalMeasurements = template.terminalMeasurements;
+        this.parameters = template.parameters;
+        this.parameterSteps = template.parameterSteps;
+        this.parameterSlots = template.parameterSlots;
+        this.placeholders = template.placeholders;
+        this.stepSlots = template.stepSlots;
+    }
+
+    /**
+     * Compile a circuit without gate fusion.
+     *
+     * @param circuit
+     *            the circuit to compile (not modified)
+     *
+     * @return the execution plan
+     *
+     * @throws IllegalArgumentException
+     *             if an instruction addresses a qubit or classical bit outside the circuit, repeats a qubit, or does
+     *             not match its gate's arity
+     */
+    public static CompiledCircuit compile(QuantumCircuit circuit) {
+        return new CompiledCircuit(circuit, false);
+    }
+
+    /**
+     * Compile a circuit, first fusing its gates into blocks of at most {@code maxFusedQubits} qubits.
+     *
+     * @param circuit
+     *            the circuit to compile (not modified)
+     * @param maxFusedQubits
+     *            maximum fused block width (1 to {@link GateFusion#MAX_FUSED_QUBITS}), or 0 to disable fusion
+     *
+     * @return the execution plan
+     *
+     * @throws IllegalArgumentException
+     *             if maxFusedQubits is out of range or the circuit is invalid (see {@link #compile(QuantumCircuit)})
+     */
+    public static CompiledCircuit compile(QuantumCircuit circuit, int maxFusedQubits) {
+        if (maxFusedQubits < 0 || maxFusedQubits > GateFusion.MAX_FUSED_QUBITS) {
+            throw new IllegalArgumentException("maxFusedQubits must be between 0 and " + GateFusion.MAX_FUSED_QUBITS);
+        }
+        if (maxFusedQubits > 0) {
+            circuit = GateFusion.fuse(circuit, maxFusedQubits);
+        }
+        return new CompiledCircuit(circuit, maxFusedQubits > 0);
+    }
+
+    /**
+     * Bind the symbolic parameters of this plan to numbers.
+     * <p>
+     * The result shares the opcode, qubit and measurement arrays with this plan; only the gates in parameterized slots
+     * are created, one per slot. Binding a bound plan again replaces the previous values, so one template serves every
+     * iteration of an optimizer.
+     * </p>
+     *
+     * @param values
+     *            one angle per parameter, in the order of {@link #getParameters()}
+     *
+     * @return an executable plan
+     *
+     * @throws IllegalArgumentException
+     *             if the number of values does not match the number of parameters
+     */
+    public CompiledCircuit bind(double... values) {
+        QuantumCircuit.checkParameterCount(parameters.length, values);
+        Gate[] bound = gates.clone();
+        for (int p = 0; p < parameterSteps.length; p++) {
+            bound[parameterSteps[p]] = placeholders[p].bind(values[parameterSlots[p]]);
+        }
+        return new CompiledCircuit(this, bound);
+    }
+
+    /**
+     * Get the symbolic parameters of this plan.
+     *
+     * @return the distinct parameters in order of first use
+     */
+    public List<Parameter> getParameters() {
+        return List.of(parameters);
+    }
+
+    /**
+     * Find the parameter of a step. Works on templates and on bound plans alike.
+     *
+     * @param step
+     *            step index
+     *
+     * @return the index (in {@link #getParameters()}) of the parameter driving this step, or -1 if the step is not
+     *         parameterized
+     */
+    public int parameterIndex(int step) {
+        int slot = stepSlots[step];
+        return slot < 0 ? -1 : parameterSlots[slot];
+    }
+
+    /**
+     * Get the placeholder a parameterized step was compiled from. Works on templates and on bound plans alike.
+     *
+     * @param step
+     *            step index
+     *
+     * @return the parameterized rotation, or null if the step is not parameterized
+     */
+    public ParameterizedGate parameterizedGate(int step) {
+        int slot = stepSlots[step];
+        return slot < 0 ? null : placeholders[slot];
+    }
+
+    private int checkIndex(int index, String what) {
+        if (index < 0 || index >= numQubits) {
+            throw new IllegalArgumentException("Invalid " + what + " index: " + index);
+        }
+        return index;
+    }
+
+    /**
+     * @return the number of qubits (and classical bits)
+     */
+    public int getNumQubits() {
+        return numQubits;
+    }
+
+    /**
+     * @return true if the plan was compiled with gate fusion, so its steps may be merged {@code "unitary"} blocks
+     *         rather than the gates of the source circuit
+     */
+    public boolean isFused() {
+        return fused;
+    }
+
+    /**
+     * @return the number of steps in the plan
+     */
+    public int size() {
+        return opcodes.length;
+    }
+
+    /**
+     * @param step
+     *            step index
+     *
+     * @return {@link #OP_GATE} or {@link #OP_MEASURE}
+     */
+    public byte opcode(int step) {
+        return opcodes[step];
+    }
+
+    /**
+     * @param step
+     *            step index
+     *
+     * @return the gate of a gate step, or null for a measurement
+     */
+    public Gate gate(int step) {
+        return gates[step];
+    }
+
+    /**
+     * The returned array is shared with the plan and must not be modified.
+     *
+     * @param step
+     *            step index
+     *
+     * @return the target qubits of the step
+     */
+    public int[] qubits(int step) {
+        return qubits[step];
+    }
+
+    /**
+     * @param step
+     *            step index
+     *
+     * @return the classical bit written by a measurement, or -1 for a gate
+     */
+    public int classicalBit(int step) {
+        return classicalBits[step];
+    }
+
+    /**
+     * @return true if no gate follows the first measurement (plans without measurements qualify too)
+     */
+    public boolean hasOnlyTerminalMeasurements() {
+        return terminalMeasurements;
+    }
+
+    /**
+     * @return the number of measurement steps
+     */
+    public int measurementCount() {
+        return measuredQubits.length;
+    }
+
+    /**
+     * @param m
+     *            measurement index, in program order
+     *
+     * @return the qubit read by the m-th measurement
+     */
+    public int measuredQubit(int m) {
+        return measuredQubits[m];
+    }
+
+    /**
+     * @param m
+     *            measurement index, in program order
+     *
+     * @return the classical bit written by the m-th measurement
+     */
+    public int measuredClassicalBit(int m) {
+        return measuredClassicalBits[m];
+    }
+}
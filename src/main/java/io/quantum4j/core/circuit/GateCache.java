@@ -0,0 +1,97 @@
+package io.quantum4j.core.circuit;
+
+import io.quantum4j.core.gates.CCXGate;
+import io.quantum4j.core.gates.CHGate;
+import io.quantum4j.core.gates.CNOTGate;
+import io.quantum4j.core.gates.CZGate;
+import io.quantum4j.core.gates.Gate;
+import io.quantum4j.core.gates.ISWAPGate;
+import io.quantum4j.core.gates.SWAPGate;
+import io.quantum4j.core.gates.StandardGates;
+
+import java.util.function.DoubleFunction;
+
+/**
+ * Shared gate instances for the {@link QuantumCircuit} builder.
+ * <p>
+ * Gates are immutable, so one instance of each fixed gate can back every instruction that uses it. Rotation gates are
+ * kept in small direct-mapped caches keyed by the exact angle: circuits that reuse a handful of angles (or the same
+ * angle on many qubits) build each matrix once, and the memory held is bounded no matter how many distinct angles
+ * pass through.
+ * </p>
+ */
+final class GateCache {
+
+    static final Gate H = new StandardGates.HGate();
+    static final Gate X = new StandardGates.XGate();
+    static final Gate Y = new StandardGates.YGate();
+    static final Gate Z = new StandardGates.ZGate();
+    static final Gate S = new StandardGates.SGate();
+    static final Gate T = new StandardGates.TGate();
+
+    static final Gate CX = new CNOTGate();
+    static final Gate CZ = new CZGate();
+    static final Gate SWAP = new SWAPGate();
+    static final Gate ISWAP = new ISWAPGate();
+    static final Gate CH = new CHGate();
+    static final Gate CCX = new CCXGate();
+
+    private static final AngleCache RX = new AngleCache(StandardGates.RXGate::new);
+    private static final AngleCache RY = new AngleCache(StandardGates.RYGate::new);
+    private static final AngleCache RZ = new AngleCache(StandardGates.RZGate::new);
+
+    private GateCache() {
+    }
+
+    static Gate rx(double theta) {
+        return RX.get(theta);
+    }
+
+    static Gate ry(double theta) {
+        return RY.get(theta);
+    }
+
+    static Gate rz(double theta) {
+        return RZ.get(theta);
+    }
+
+    /**
+     * Direct-mapped cache from angle to gate. A colliding angle simply replaces the slot's previous entry.
+     * <p>
+     * Slots hold immutable entries and are read and written without locking: a racing builder thread at worst misses
+     * and creates an equivalent gate.
+     * </p>
+     */
+    private static final class AngleCache {
+        private static final int SLOT_BITS = 10;
+
+        private final DoubleFunction<Gate> factory;
+        private final Entry[] slots = new Entry[1 << SLOT_BITS];
+
+        AngleCache(DoubleFunction<Gate> factory) {
+            this.factory = factory;
+        }
+
+        Gate get(double theta) {
+            long bits = Double.doubleToLongBits(theta);
+            int slot = (int) ((bits * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - SLOT_BITS));
+            Entry e = slots[slot];
+            if (e != null && e.bits == bits) {
+                return e.gate;
+            }
+            Gate gate = factory.apply(theta);
+            slots[slot] = new Entry(bits, gate);
+            return gate;
+        }
+    }
+
+    private static final class Entry {
+        final long bits;
+        final Gate gate;
+
+        Entry(long bits, Gate gate) {
+            this.bits = bits;
+            this.gate = gate;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package io.quantum4j.core.circuit;
+
+import io.quantum4j.core.gates.Gate;
+import io.quantum4j.core.gates.UnitaryGate;
+import io.quantum4j.core.math.Complex;
+import io.quantum4j.core.math.StateVector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Compiler pass that merges neighboring gates into dense unitaries.
+ * <p>
+ * Every gate costs one full pass over the 2^n amplitudes, so replacing a run of gates by their product cuts memory
+ * traffic by the length of the run. The pass keeps a set of open blocks on disjoint qubits. Each gate is merged with
+ * the open blocks it touches as long as the union spans at most {@code maxQubits} qubits; otherwise those blocks are
+ * emitted and the gate starts a new one. Runs of single-qubit gates on one qubit always collapse to a single 2×2
+ * unitary. Measurements flush all open blocks; unbound {@link ParameterizedGate}s flush the blocks on their qubit.
+ * Both are passed through unchanged.
+ * </p>
+ * <p>
+ * Blocks with a single gate are emitted unchanged so that gate-specific kernels stay in use. Fused blocks become
+ * {@link UnitaryGate}s over their qubits in ascending order. The result is meant for simulation only; it generally
+ * cannot be exported to OpenQASM.
+ * </p>
+ */
+public final class GateFusion {
+
+    /** largest supported block width */
+    public static final int MAX_FUSED_QUBITS = 5;
+
+    private GateFusion() {
+    }
+
+    /**
+     * Fuse the gates of a circuit into blocks of at most {@code maxQubits} qubits.
+     *
+     * @param circuit
+     *            the circuit to optimize (not modified)
+     * @param maxQubits
+     *            maximum block width, between 1 and {@value #MAX_FUSED_QUBITS}
+     *
+     * @return an equivalent circuit with fused gates
+     *
+     * @throws IllegalArgumentException
+     *             if maxQubits is out of range, or an instruction addresses a qubit outside the circuit
+     */
+    public static QuantumCircuit fuse(QuantumCircuit circuit, int maxQubits) {
+        if (maxQubits < 1 || maxQubits > MAX_FUSED_QUBITS) {
+            throw new IllegalArgumentException("maxQubits must be between 1 and " + MAX_FUSED_QUBITS);
+        }
+        int n = circuit.getNumQubits();
+        if (n > Long.SIZE) {
+            throw new IllegalArgumentException("Gate fusion supports at most " + Long.SIZE + " qubits");
+        }
+        for (Instruction inst : circuit.getInstructions()) {
+            for (int q : inst.getQubits()) {
+                if (q < 0 || q >= n) {
+                    throw new IllegalArgumentException("Invalid qubit index: " + q);
+                }
+            }
+        }
+
+        QuantumCircuit out = QuantumCircuit.create(circuit.getNumQubits());
+        List<Block> open = new ArrayList<>();
+
+        for (Instruction inst : circuit.getInstructions()) {
+            if (inst.getType() == Instruction.Type.MEASURE) {
+                // flush every block, not just this qubit's, so no gate moves behind a measurement and circuits with
+                // terminal measurements keep them terminal
+                for (Block b : open) {
+                    b.emit(out);
+                }
+                open.clear();
+                out.measure(inst.getQubits()[0], inst.getClassicalBits()[0]);
+                continue;
+            }
+
+            int[] qs = inst.getQubits();
+            if (inst.getGate() instanceof ParameterizedGate) {
+                // no matrix yet: keep its own slot so binding only has to replace this gate
+                flushTouching(open, qs, out);
+                out.apply(inst.getGate(), qs);
+                continue;
+            }
+            long touched = mask(qs);
+            long union = touched;
+            for (Block b : open) {
+                if ((b.qubits & touched) != 0) {
+                    union |= b.qubits;
+                }
+            }
+
+            if (Long.bitCount(union) <= maxQubits) {
+                // merge all touched blocks (they act on disjoint qubits, so their order is irrelevant)
+                Block merged = new Block();
+                for (Iterator<Block> it = open.iterator(); it.hasNext();) {
+                    Block b = it.next();
+                    if ((b.qubits & touched) != 0) {
+                        merged.absorb(b);
+                        it.remove();
+                    }
+                }
+                merged.add(inst);
+                open.add(merged);
+            } else {
+                flushTouching(open, qs, out);
+                if (Long.bitCount(touched) <= maxQubits) {
+                    Block b = new Block();
+                    b.add(inst);
+                    open.add(b);
+                } else {
+                    out.apply(inst.getGate(), qs);
+                }
+            }
+        }
+
+        for (Block b : open) {
+            b.emit(out);
+        }
+        return out;
+    }
+
+    private static void flushTouching(List<Block> open, int[] qubits, QuantumCircuit out) {
+        long touched = mask(qubits);
+        for (Iterator<Block> it = open.iterator(); it.hasNext();) {
+            Block b = it.next();
+            if ((b.qubits & touched) != 0) {
+                b.emit(out);
+                it.remove();
+            }
+        }
+    }
+
+    private static long mask(int[] qubits) {
+        long m = 0;
+        for (int q : qubits) {
+            m |= 1L << q;
+        }
+        return m;
+    }
+
+    /**
+     * A run of gates on a small qubit set, kept in program order.
+     */
+    private static final class Block {
+        long qubits;
+        final List<Instruction> gates = new ArrayList<>();
+
+        void add(Instruction inst) {
+            gates.add(inst);
+            qubits |= mask(inst.getQubits());
+        }
+
+        void absorb(Block other) {
+            gates.addAll(other.gates);
+            qubits |= other.qubits;
+        }
+
+        void emit(QuantumCircuit out) {
+            if (gates.size() == 1) {
+                Instruction only = gates.get(0);
+                out.apply(only.getGate(), only.getQubits());
+                return;
+            }
+
+            int[] global = new int[Long.bitCount(qubits)];
+            long rest = qubits;
+            for (int i = 0; i < global.length; i++) {
+                global[i] = Long.numberOfTrailingZeros(rest);
+                rest &= rest - 1;
+            }
+            out.apply(new UnitaryGate(global.length, unitary(global)), global);
+        }
+
+        /**
+         * Build the block's matrix column by column by simulating each basis state on a small local register.
+         */
+        private double[] unitary(int[] global) {
+            int k = global.length;
+            int d = 1 << k;
+            double[] m = new double[2 * d * d];
+            int[][] local = new int[gates.size()][];
+            for (int g = 0; g < local.length; g++) {
+                int[] qs = gates.get(g).getQubits();
+                local[g] = new int[qs.length];
+                for (int i = 0; i < qs.length; i++) {
+                    local[g][i] = Arrays.binarySearch(global, qs[i]);
+                }
+            }
+
+            for (int col = 0; col < d; col++) {
+                StateVector column = StateVector.onHeap(k);
+                column.setAmplitude(0, Complex.ZERO);
+                column.setAmplitude(col, Complex.ONE);
+                for (int g = 0; g < local.length; g++) {
+                    Gate gate = gates.get(g).getGate();
+                    gate.apply(column, local[g]);
+                }
+                for (int row = 0; row < d; row++) {
+                    int e = 2 * (row * d + col);
+                    m[e] = column.getAmplitude(row).getRe();
+                    m[e + 1] = column.getAmplitude(row).getIm();
+                }
+            }
+            return m;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.quantum4j.core.circuit;
+
+/**
+ * A named symbolic angle in a variational circuit.
+ * <p>
+ * Parameters are placed with {@link QuantumCircuit#rx(int, Parameter)} and its siblings, and later bound to numbers
+ * with {@link QuantumCircuit#bind(double...)} or {@link CompiledCircuit#bind(double...)}. Parameters are compared by
+ * identity; the name is only used for display.
+ * </p>
+ */
+public final class Parameter {
+
+    private final String name;
+
+    /**
+     * Create a new parameter.
+     *
+     * @param name
+     *            display name (e.g. "theta0")
+     *
+     * @throws IllegalArgumentException
+     *             if the name is null or empty
+     */
+    public Parameter(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Parameter name must not be empty");
+        }
+        this.name = name;
+    }
+
+    /**
+     * Get the display name of this parameter.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
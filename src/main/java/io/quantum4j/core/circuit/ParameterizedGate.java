@@ -0,0 +1,94 @@
+package io.quantum4j.core.circuit;
+
+import io.quantum4j.core.gates.Gate;
+import io.quantum4j.core.gates.StandardGates;
+import io.quantum4j.core.math.StateVector;
+
+/**
+ * Placeholder for a rotation whose angle is a {@link Parameter}.
+ * <p>
+ * It has no matrix and cannot be simulated until it is bound: binding a circuit or plan replaces each placeholder with
+ * the concrete rotation gate for the supplied value. Gate fusion leaves placeholders unfused so that a compiled plan
+ * keeps one slot per parameterized rotation.
+ * </p>
+ */
+public final class ParameterizedGate implements Gate {
+
+    /**
+     * Rotation axis of a parameterized gate.
+     */
+    public enum Axis {
+        X("rx"),
+        Y("ry"),
+        Z("rz");
+
+        private final String gateName;
+
+        Axis(String gateName) {
+            this.gateName = gateName;
+        }
+    }
+
+    private final Axis axis;
+    private final Parameter parameter;
+
+    ParameterizedGate(Axis axis, Parameter parameter) {
+        if (parameter == null) {
+            throw new IllegalArgumentException("parameter must not be null");
+        }
+        this.axis = axis;
+        this.parameter = parameter;
+    }
+
+    /**
+     * @return the rotation axis
+     */
+    public Axis getAxis() {
+        return axis;
+    }
+
+    /**
+     * @return the symbolic angle
+     */
+    public Parameter getParameter() {
+        return parameter;
+    }
+
+    /**
+     * Create the concrete rotation for an angle.
+     *
+     * @param theta
+     *            the angle in radians
+     *
+     * @return a new RX, RY or RZ gate
+     */
+    public Gate bind(double theta) {
+        switch (axis) {
+        case X:
+            return new StandardGates.RXGate(theta);
+        case Y:
+            return new StandardGates.RYGate(theta);
+        default:
+            return new StandardGates.RZGate(theta);
+        }
+    }
+
+    @Override
+    public String name() {
+        return axis.gateName;
+    }
+
+    @Override
+    public int arity() {
+        return 1;
+    }
+
+    /**
+     * @throws IllegalStateException
+     *             always; the parameter must be bound first
+     */
+    @Override
+    public void apply(StateVector state, int[] qubits) {
+        throw new IllegalStateException("Unbound parameter: " + parameter.getName());
+    }
+}
@@ -1,9 +1,11 @@
 package io.quantum4j.core.circuit;
 
-import io.quantum4j.core.gates.*;
+import io.quantum4j.core.gates.Gate;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a quantum circuit with qubits and gate instructions.
@@ -11,6 +13,10 @@ import java.util.List;
  * A QuantumCircuit is constructed with a fixed number of qubits and allows adding gate operations via a fluent builder
  * API. Instructions are stored in execution order and can be retrieved for simulation or export.
  * </p>
+ * <p>
+ * The builder shortcuts share gate instances between instructions (gates are immutable), and rotations with a
+ * recently used angle reuse the existing gate, so adding an instruction normally allocates only the instruction.
+ * </p>
  */
 public final class QuantumCircuit {
     private final int numQubits;
@@ -70,76 +76,152 @@ public final class QuantumCircuit {
     // ----------------------------------------------------------------------
 
     public QuantumCircuit h(int qubit) {
-        instructions.add(Instruction.gate(new StandardGates.HGate(), qubit));
+        instructions.add(Instruction.gate(GateCache.H, qubit));
         return this;
     }
 
     public QuantumCircuit x(int qubit) {
-        instructions.add(Instruction.gate(new StandardGates.XGate(), qubit));
+        instructions.add(Instruction.gate(GateCache.X, qubit));
         return this;
     }
 
     public QuantumCircuit y(int qubit) {
-        instructions.add(Instruction.gate(new StandardGates.YGate(), qubit));
+        instructions.add(Instruction.gate(GateCache.Y, qubit));
         return this;
     }
 
     public QuantumCircuit z(int qubit) {
-        instructions.add(Instruction.gate(new StandardGates.ZGate(), qubit));
+        instructions.add(Instruction.gate(GateCache.Z, qubit));
         return this;
     }
 
     public QuantumCircuit s(int qubit) {
-        instructions.add(Instruction.gate(new StandardGates.SGate(), qubit));
+        instructions.add(Instruction.gate(GateCache.S, qubit));
         return this;
     }
 
     public QuantumCircuit t(int qubit) {
-        instructions.add(Instruction.gate(new StandardGates.TGate(), qubit));
+        instructions.add(Instruction.gate(GateCache.T, qubit));
         return this;
     }
 
     public QuantumCircuit rx(int qubit, double theta) {
-        instructions.add(Instruction.gate(new StandardGates.RXGate(theta), qubit));
+        instructions.add(Instruction.gate(GateCache.rx(theta), qubit));
         return this;
     }
 
     public QuantumCircuit ry(int qubit, double theta) {
-        instructions.add(Instruction.gate(new StandardGates.RYGate(theta), qubit));
+        instructions.add(Instruction.gate(GateCache.ry(theta), qubit));
         return this;
     }
 
     public QuantumCircuit rz(int qubit, double theta) {
-        instructions.add(Instruction.gate(new StandardGates.RZGate(theta), qubit));
+        instructions.add(Instruction.gate(GateCache.rz(theta), qubit));
         return this;
     }
 
+    // ----------------------------------------------------------------------
+    // Parameterized rotations
+    // ----------------------------------------------------------------------
+
+    public QuantumCircuit rx(int qubit, Parameter theta) {
+        instructions.add(Instruction.gate(new ParameterizedGate(ParameterizedGate.Axis.X, theta), qubit));
+        return this;
+    }
+
+    public QuantumCircuit ry(int qubit, Parameter theta) {
+        instructions.add(Instruction.gate(new ParameterizedGate(ParameterizedGate.Axis.Y, theta), qubit));
+        return this;
+    }
+
+    public QuantumCircuit rz(int qubit, Parameter theta) {
+        instructions.add(Instruction.gate(new ParameterizedGate(ParameterizedGate.Axis.Z, theta), qubit));
+        return this;
+    }
+
+    /**
+     * Get the symbolic parameters of this circuit.
+     *
+     * @return the distinct parameters in order of first use; this is the order of the values passed to
+     *         {@link #bind(double...)}
+     */
+    public List<Parameter> getParameters() {
+        return new ArrayList<>(parameterIndex(instructions).keySet());
+    }
+
+    /**
+     * Create a copy of this circuit with every parameter replaced by a number.
+     * <p>
+     * For repeated evaluation prefer {@link CompiledCircuit#bind(double...)}, which reuses the compiled plan.
+     * </p>
+     *
+     * @param values
+     *            one angle per parameter, in the order of {@link #getParameters()}
+     *
+     * @return a new circuit without symbolic parameters
+     *
+     * @throws IllegalArgumentException
+     *             if the number of values does not match the number of parameters
+     */
+    public QuantumCircuit bind(double... values) {
+        Map<Parameter, Integer> index = parameterIndex(instructions);
+        checkParameterCount(index.size(), values);
+
+        QuantumCircuit out = new QuantumCircuit(numQubits);
+        for (Instruction inst : instructions) {
+            if (inst.getType() == Instruction.Type.GATE && inst.getGate() instanceof ParameterizedGate) {
+                ParameterizedGate g = (ParameterizedGate) inst.getGate();
+                out.instructions.add(Instruction.gate(g.bind(values[index.get(g.getParameter())]), inst.getQubits()));
+            } else {
+                out.instructions.add(inst);
+            }
+        }
+        return out;
+    }
+
+    /** parameter to value index, in order of first use */
+    static Map<Parameter, Integer> parameterIndex(List<Instruction> instructions) {
+        Map<Parameter, Integer> index = new LinkedHashMap<>();
+        for (Instruction inst : instructions) {
+            if (inst.getType() == Instruction.Type.GATE && inst.getGate() instanceof ParameterizedGate) {
+                index.putIfAbsent(((ParameterizedGate) inst.getGate()).getParameter(), index.size());
+            }
+        }
+        return index;
+    }
+
+    static void checkParameterCount(int expected, double[] values) {
+        if (values.length != expected) {
+            throw new IllegalArgumentException("Expected " + expected + " parameter values, got " + values.length);
+        }
+    }
+
     // ----------------------------------------------------------------------
     // 2-qubit shortcuts
     // ----------------------------------------------------------------------
 
     public QuantumCircuit cx(int control, int target) {
-        instructions.add(Instruction.gate(new CNOTGate(), control, target));
+        instructions.add(Instruction.gate(GateCache.CX, control, target));
         return this;
     }
 
     public QuantumCircuit cz(int control, int target) {
-        instructions.add(Instruction.gate(new CZGate(), control, target));
+        instructions.add(Instruction.gate(GateCache.CZ, control, target));
         return this;
     }
 
     public QuantumCircuit swap(int q0, int q1) {
-        instructions.add(Instruction.gate(new SWAPGate(), q0, q1));
+        instructions.add(Instruction.gate(GateCache.SWAP, q0, q1));
         return this;
     }
 
     public QuantumCircuit iswap(int q0, int q1) {
-        instructions.add(Instruction.gate(new ISWAPGate(), q0, q1));
+        instructions.add(Instruction.gate(GateCache.ISWAP, q0, q1));
         return this;
     }
 
     public QuantumCircuit ch(int control, int target) {
-        instructions.add(Instruction.gate(new CHGate(), control, target));
+        instructions.add(Instruction.gate(GateCache.CH, control, target));
         return this;
     }
 
@@ -160,7 +242,7 @@ public final class QuantumCircuit {
     }
 
     public QuantumCircuit ccx(int control1, int control2, int target) {
-        instructions.add(Instruction.gate(new CCXGate(), control1, control2, target));
+        instructions.add(Instruction.gate(GateCache.CCX, control1, control2, target));
         return this;
     }
 
@@ -2,6 +2,7 @@
  * Circuit representation for Quantum4J, including {@link io.quantum4j.core.circuit.QuantumCircuit} and
  * {@link io.quantum4j.core.circuit.Instruction}.
  *
- * This package provides the user-facing fluent DSL for building circuits.
+ * This package provides the user-facing fluent DSL for building circuits, plus the compiler passes that prepare them
+ * for simulation ({@link io.quantum4j.core.circuit.GateFusion}, {@link io.quantum4j.core.circuit.CompiledCircuit}).
  */
 package io.quantum4j.core.circuit;
@@ -23,4 +23,69 @@ public interface Gate {
      * @return 1 for single-qubit gates, 2 for two-qubit gates, etc.
      */
     int arity(); // number of qubits this gate acts on
+
+    /**
+     * Get the sparsity pattern of this gate's matrix.
+     * <p>
+     * Simulators use it to choose phase-only or swap-only kernels. The built-in gate base classes derive it from their
+     * matrix; the default is {@link GateStructure#DENSE}.
+     * </p>
+     *
+     * @return the matrix structure
+     */
+    default GateStructure structure() {
+        return GateStructure.DENSE;
+    }
+
+    /**
+     * Apply this gate to the given qubits of a state.
+     * <p>
+     * The qubit array has {@link #arity()} entries in the same order as the gate's instruction. The built-in gate base
+     * classes forward to their fixed-arity {@code apply} methods; other implementations must override this to be
+     * simulated.
+     * </p>
+     *
+     * @param state
+     *            the quantum state to modify
+     * @param qubits
+     *            target qubit indices
+     *
+     * @throws UnsupportedOperationException
+     *             if the gate cannot be applied to a state vector
+     */
+    default void apply(StateVector state, int[] qubits) {
+        throw new UnsupportedOperationException("Unsupported gate type: " + getClass().getSimpleName());
+    }
+
+    /**
+     * Get the matrix of this gate in the interleaved layout used by the simulator kernels.
+     * <p>
+     * The matrix is 2^k×2^k for k = {@link #arity()}, row-major, with {@code re, im} pairs; the first target qubit is
+     * the least significant bit of the local basis index.
+     * </p>
+     *
+     * @return a fresh array of 2·4^k doubles
+     *
+     * @throws UnsupportedOperationException
+     *             if the gate has no matrix
+     */
+    default double[] matrix() {
+        throw new UnsupportedOperationException("Gate has no matrix: " + getClass().getSimpleName());
+    }
+
+    /**
+     * Get the inverse (conjugate transpose) of this gate.
+     * <p>
+     * The built-in gate base classes return a {@link UnitaryGate} over the same qubits in the same order, with the same
+     * {@link #structure()}.
+     * </p>
+     *
+     * @return a gate that undoes this one
+     *
+     * @throws UnsupportedOperationException
+     *             if the gate has no matrix
+     */
+    default Gate inverse() {
+        throw new UnsupportedOperationException("Gate has no inverse: " + getClass().getSimpleName());
+    }
 }
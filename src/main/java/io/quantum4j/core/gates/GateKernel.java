@@ -0,0 +1,164 @@
+package io.quantum4j.core.gates;
+
+import io.quantum4j.core.math.StateVector;
+
+/**
+ * Pre-classified form of a gate matrix that dispatches to the cheapest {@link StateVector} kernel.
+ * <p>
+ * Built once per gate instance. The matrix is scanned for its {@link GateStructure}; diagonal and permutation gates
+ * keep only the entries their kernels need.
+ * </p>
+ */
+final class GateKernel {
+
+    private final int numQubits;
+    private final GateStructure structure;
+    /** dense interleaved row-major matrix */
+    private final double[] matrix;
+    /** interleaved diagonal entries, for DIAGONAL */
+    private final double[] diagonal;
+    /** row of the non-zero entry in each column, for the permutation structures */
+    private final int[] permutation;
+    /** interleaved value of that entry, for PHASED_PERMUTATION */
+    private final double[] phases;
+
+    GateKernel(int numQubits, double[] matrix) {
+        this.numQubits = numQubits;
+        this.matrix = matrix;
+
+        int d = 1 << numQubits;
+        int[] perm = new int[d];
+        double[] values = new double[2 * d];
+        boolean monomial = true;
+        boolean diagonalOnly = true;
+        boolean unitEntries = true;
+
+        for (int c = 0; c < d && monomial; c++) {
+            int row = -1;
+            for (int r = 0; r < d; r++) {
+                int e = 2 * (r * d + c);
+                if (matrix[e] == 0.0 && matrix[e + 1] == 0.0)
+                    continue;
+                if (row >= 0) {
+                    monomial = false;
+                    break;
+                }
+                row = r;
+                values[2 * c] = matrix[e];
+                values[2 * c + 1] = matrix[e + 1];
+            }
+            if (row < 0) {
+                monomial = false;
+                break;
+            }
+            perm[c] = row;
+            diagonalOnly &= row == c;
+            unitEntries &= values[2 * c] == 1.0 && values[2 * c + 1] == 0.0;
+        }
+
+        if (monomial && diagonalOnly) {
+            structure = GateStructure.DIAGONAL;
+        } else if (monomial && unitEntries) {
+            structure = GateStructure.PERMUTATION;
+        } else if (monomial) {
+            structure = GateStructure.PHASED_PERMUTATION;
+        } else {
+            structure = GateStructure.DENSE;
+        }
+
+        this.diagonal = structure == GateStructure.DIAGONAL ? values : null;
+        this.permutation = monomial && !diagonalOnly ? perm : null;
+        this.phases = structure == GateStructure.PHASED_PERMUTATION ? values : null;
+    }
+
+    GateStructure structure() {
+        return structure;
+    }
+
+    double[] matrix() {
+        return matrix;
+    }
+
+    /**
+     * @return a gate applying the conjugate transpose of this matrix
+     */
+    Gate inverse() {
+        int d = 1 << numQubits;
+        double[] adjoint = new double[matrix.length];
+        for (int r = 0; r < d; r++) {
+            for (int c = 0; c < d; c++) {
+                int src = 2 * (r * d + c);
+                int dst = 2 * (c * d + r);
+                adjoint[dst] = matrix[src];
+                adjoint[dst + 1] = -matrix[src + 1];
+            }
+        }
+        return new UnitaryGate(numQubits, adjoint);
+    }
+
+    /**
+     * Apply a one-qubit gate.
+     */
+    void apply(StateVector state, int q) {
+        if (structure == GateStructure.DENSE) {
+            state.applySingleQubit(matrix, q);
+        } else {
+            applyStructured(state, new int[] { q });
+        }
+    }
+
+    /**
+     * Apply a two-qubit gate with {@code q0} as the least significant bit of the local basis index.
+     */
+    void apply(StateVector state, int q0, int q1) {
+        if (structure == GateStructure.DENSE) {
+            state.applyTwoQubit(matrix, q0, q1);
+        } else {
+            applyStructured(state, new int[] { q0, q1 });
+        }
+    }
+
+    /**
+     * Apply a three-qubit gate with {@code q0} as the least significant bit of the local basis index. Dense matrices go
+     * straight to the 8×8 kernel; only the diagonal and permutation kernels take the qubits as an array.
+     */
+    void apply(StateVector state, int q0, int q1, int q2) {
+        if (structure == GateStructure.DENSE) {
+            state.applyThreeQubit(matrix, q0, q1, q2);
+        } else {
+            applyStructured(state, new int[] { q0, q1, q2 });
+        }
+    }
+
+    /**
+     * Apply the gate with {@code qubits[0]} as the least significant bit of the local basis index.
+     */
+    void apply(StateVector state, int[] qubits) {
+        if (structure != GateStructure.DENSE) {
+            applyStructured(state, qubits);
+            return;
+        }
+
+        switch (numQubits) {
+        case 1:
+            state.applySingleQubit(matrix, qubits[0]);
+            break;
+        case 2:
+            state.applyTwoQubit(matrix, qubits[0], qubits[1]);
+            break;
+        case 3:
+            state.applyThreeQubit(matrix, qubits[0], qubits[1], qubits[2]);
+            break;
+        default:
+            state.applyMatrix(matrix, qubits);
+        }
+    }
+
+    private void applyStructured(StateVector state, int[] qubits) {
+        if (structure == GateStructure.DIAGONAL) {
+            state.applyDiagonal(diagonal, qubits);
+        } else {
+            state.applyPermutation(permutation, structure == GateStructure.PHASED_PERMUTATION ? phases : null, qubits);
+        }
+    }
+}
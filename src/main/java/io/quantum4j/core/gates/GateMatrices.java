@@ -86,7 +86,7 @@ public final class GateMatrices {
 
     // ----------------------------------------------------------------------
     // 3-QUBIT GATE (8x8)
-    // CCX (Toffoli): flips |110> ↔ |111>
+    // CCX (Toffoli), local basis |q2 q1 q0>: controls q0, q1, target q2; flips |011> ↔ |111>
     // ----------------------------------------------------------------------
 
     public static final Complex[][] CCX = {
@@ -94,12 +94,37 @@ public final class GateMatrices {
             { c(1), c(0), c(0), c(0), c(0), c(0), c(0), c(0) }, // 000
             { c(0), c(1), c(0), c(0), c(0), c(0), c(0), c(0) }, // 001
             { c(0), c(0), c(1), c(0), c(0), c(0), c(0), c(0) }, // 010
-            { c(0), c(0), c(0), c(1), c(0), c(0), c(0), c(0) }, // 011
+            { c(0), c(0), c(0), c(0), c(0), c(0), c(0), c(1) }, // 011 -> 111
             { c(0), c(0), c(0), c(0), c(1), c(0), c(0), c(0) }, // 100
             { c(0), c(0), c(0), c(0), c(0), c(1), c(0), c(0) }, // 101
+            { c(0), c(0), c(0), c(0), c(0), c(0), c(1), c(0) }, // 110
+            { c(0), c(0), c(0), c(1), c(0), c(0), c(0), c(0) } // 111 -> 011
+    };
 
-            // |110> ↔ |111|
-            { c(0), c(0), c(0), c(0), c(0), c(0), c(0), c(1) }, { c(0), c(0), c(0), c(0), c(0), c(0), c(1), c(0) } };
+    // ----------------------------------------------------------------------
+    // Primitive conversion
+    // ----------------------------------------------------------------------
+
+    /**
+     * Flatten a square complex matrix into the interleaved row-major layout used by the
+     * {@link io.quantum4j.core.math.StateVector} kernels.
+     *
+     * @param matrix
+     *            a d×d complex matrix
+     *
+     * @return an array of 2·d² doubles holding {@code re, im} pairs row by row
+     */
+    public static double[] flatten(Complex[][] matrix) {
+        int d = matrix.length;
+        double[] out = new double[2 * d * d];
+        for (int r = 0; r < d; r++) {
+            for (int c = 0; c < d; c++) {
+                out[2 * (r * d + c)] = matrix[r][c].getRe();
+                out[2 * (r * d + c) + 1] = matrix[r][c].getIm();
+            }
+        }
+        return out;
+    }
 
     // ----------------------------------------------------------------------
     // Internal helpers
@@ -0,0 +1,24 @@
+package io.quantum4j.core.gates;
+
+/**
+ * Sparsity pattern of a gate matrix, used to pick the cheapest simulation kernel.
+ *
+ * <p>
+ * Structured gates skip the zero entries of their matrix entirely: diagonal gates only rescale the amplitudes whose
+ * phase is not 1, and permutation gates only move the amplitudes they actually permute.
+ * </p>
+ */
+public enum GateStructure {
+
+    /** Only diagonal entries are non-zero (Z, S, T, RZ, CZ). */
+    DIAGONAL,
+
+    /** Exactly one entry equal to 1 in each row and column (X, CNOT, SWAP, CCX). */
+    PERMUTATION,
+
+    /** Exactly one non-zero entry in each row and column, with arbitrary phases (Y, iSWAP). */
+    PHASED_PERMUTATION,
+
+    /** Anything else; applied with a full matrix-vector product. */
+    DENSE
+}
@@ -15,6 +15,9 @@ public abstract class SingleQubitGate implements Gate {
     /** 2x2 unitary matrix representing this gate */
     protected final Complex[][] matrix;
 
+    /** the same matrix, classified and flattened for the state-vector kernels */
+    private final GateKernel kernel;
+
     /**
      * Construct a single-qubit gate with the given 2×2 matrix.
      *
@@ -29,6 +32,7 @@ public abstract class SingleQubitGate implements Gate {
             throw new IllegalArgumentException("Single qubit gate must be 2x2");
         }
         this.matrix = matrix;
+        this.kernel = new GateKernel(1, GateMatrices.flatten(matrix));
     }
 
     @Override
@@ -36,11 +40,27 @@ public abstract class SingleQubitGate implements Gate {
         return 1;
     }
 
+    @Override
+    public GateStructure structure() {
+        return kernel.structure();
+    }
+
+    @Override
+    public double[] matrix() {
+        return kernel.matrix().clone();
+    }
+
+    @Override
+    public Gate inverse() {
+        return kernel.inverse();
+    }
+
     /**
      * Apply this single-qubit gate to the specified target qubit in the given state.
      * <p>
      * This implementation performs sparse matrix-vector multiplication by updating only the amplitude pairs affected by
-     * the target qubit.
+     * the target qubit, working directly on the primitive amplitude storage without allocating. Diagonal and
+     * permutation gates only touch the amplitudes they change (see {@link GateStructure}).
      * </p>
      *
      * @param state
@@ -52,31 +72,11 @@ public abstract class SingleQubitGate implements Gate {
      *             if targetQubit is out of range
      */
     public void apply(StateVector state, int targetQubit) {
-        int nQubits = state.getNumQubits();
-        if (targetQubit < 0 || targetQubit >= nQubits) {
-            throw new IllegalArgumentException("Invalid target qubit: " + targetQubit);
-        }
-
-        Complex[] amps = state.getAmplitudes();
-        int dim = amps.length;
-
-        int bitMask = 1 << targetQubit;
-
-        for (int i = 0; i < dim; i++) {
-            // only process pairs where target bit is 0; partner index has bit set to 1
-            if ((i & bitMask) == 0) {
-                int j = i | bitMask;
-
-                Complex a0 = amps[i];
-                Complex a1 = amps[j];
-
-                // new amplitudes = U * [a0, a1]^T
-                Complex new0 = matrix[0][0].mul(a0).add(matrix[0][1].mul(a1));
-                Complex new1 = matrix[1][0].mul(a0).add(matrix[1][1].mul(a1));
+        kernel.apply(state, targetQubit);
+    }
 
-                amps[i] = new0;
-                amps[j] = new1;
-            }
-        }
+    @Override
+    public void apply(StateVector state, int[] qubits) {
+        apply(state, qubits[0]);
     }
 }
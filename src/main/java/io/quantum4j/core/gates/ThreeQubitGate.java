@@ -14,6 +14,9 @@ public abstract class ThreeQubitGate implements Gate {
     /** 8x8 unitary matrix representing this gate */
     protected final Complex[][] matrix;
 
+    /** the same matrix, classified and flattened for the state-vector kernels */
+    private final GateKernel kernel;
+
     /**
      * Construct a three-qubit gate with the given 8×8 matrix.
      *
@@ -28,6 +31,7 @@ public abstract class ThreeQubitGate implements Gate {
             throw new IllegalArgumentException("Three-qubit gate must be 8x8");
         }
         this.matrix = matrix;
+        this.kernel = new GateKernel(3, GateMatrices.flatten(matrix));
     }
 
     @Override
@@ -35,69 +39,45 @@ public abstract class ThreeQubitGate implements Gate {
         return 3;
     }
 
+    @Override
+    public GateStructure structure() {
+        return kernel.structure();
+    }
+
+    @Override
+    public double[] matrix() {
+        return kernel.matrix().clone();
+    }
+
+    @Override
+    public Gate inverse() {
+        return kernel.inverse();
+    }
+
     /**
-     * Correct 3-qubit gate application.
+     * Apply this three-qubit gate to the specified qubits.
+     * <p>
+     * The local index follows the argument order, |q2 q1 q0⟩ with {@code q0} as the least significant bit, matching
+     * the row labels of the gate matrix (for CCX, q0 and q1 are the controls and q2 the target). Diagonal and
+     * permutation gates such as CCX only touch the amplitudes they change (see {@link GateStructure}); dense matrices
+     * use the full 8×8 kernel.
+     * </p>
      *
-     * Uses: - sorted qubits to determine bit significance - local index (qH qM qL) from 0..7 - dest[] buffer to avoid
-     * in-place corruption
+     * @param state
+     *            the quantum state to modify
+     * @param q0
+     *            qubit for the low bit of the local index
+     * @param q1
+     *            qubit for the middle bit of the local index
+     * @param q2
+     *            qubit for the high bit of the local index
      */
     public void apply(StateVector state, int q0, int q1, int q2) {
+        kernel.apply(state, q0, q1, q2);
+    }
 
-        // Sort qubits to determine LSB/MID/MSB in the local 3-qubit space
-        int[] qs = { q0, q1, q2 };
-        java.util.Arrays.sort(qs);
-
-        int qL = qs[0]; // least significant qubit
-        int qM = qs[1];
-        int qH = qs[2]; // most significant qubit
-
-        int mL = 1 << qL;
-        int mM = 1 << qM;
-        int mH = 1 << qH;
-
-        int maskAll = mL | mM | mH;
-
-        Complex[] src = state.getAmplitudes();
-        int dim = src.length;
-        Complex[] dest = new Complex[dim];
-
-        // Initialize dest to ZERO
-        for (int i = 0; i < dim; i++) {
-            dest[i] = Complex.ZERO;
-        }
-
-        // For each global basis index, compute the new amplitude
-        for (int globalIdx = 0; globalIdx < dim; globalIdx++) {
-
-            // Extract the three bits of this triple (qH qM qL)
-            int bitL = ((globalIdx & mL) != 0) ? 1 : 0;
-            int bitM = ((globalIdx & mM) != 0) ? 1 : 0;
-            int bitH = ((globalIdx & mH) != 0) ? 1 : 0;
-
-            // local index 0..7, ordering: |qH qM qL>
-            int localK = (bitH << 2) | (bitM << 1) | bitL;
-
-            // For matrix multiplication:
-            // base = globalIdx with the three gate bits cleared
-            int base = globalIdx & ~maskAll;
-
-            // Compute new amplitude via ∑_c U[k][c] * oldAmp(base + pattern c)
-            Complex sum = Complex.ZERO;
-            for (int c = 0; c < 8; c++) {
-
-                int cL = c & 1;
-                int cM = (c >> 1) & 1;
-                int cH = (c >> 2) & 1;
-
-                int srcIdx = base | (cL == 1 ? mL : 0) | (cM == 1 ? mM : 0) | (cH == 1 ? mH : 0);
-
-                sum = sum.add(matrix[localK][c].mul(src[srcIdx]));
-            }
-
-            dest[globalIdx] = sum;
-        }
-
-        // Write results back to state
-        System.arraycopy(dest, 0, src, 0, dim);
+    @Override
+    public void apply(StateVector state, int[] qubits) {
+        kernel.apply(state, qubits);
     }
 }
@@ -15,6 +15,9 @@ public abstract class TwoQubitGate implements Gate {
     /** 4x4 unitary matrix representing this gate */
     protected final Complex[][] matrix;
 
+    /** the same matrix, classified and flattened for the state-vector kernels */
+    private final GateKernel kernel;
+
     /**
      * Construct a two-qubit gate with the given 4×4 matrix.
      *
@@ -29,6 +32,7 @@ public abstract class TwoQubitGate implements Gate {
             throw new IllegalArgumentException("Two-qubit gate must be 4x4");
         }
         this.matrix = matrix;
+        this.kernel = new GateKernel(2, GateMatrices.flatten(matrix));
     }
 
     @Override
@@ -36,11 +40,27 @@ public abstract class TwoQubitGate implements Gate {
         return 2;
     }
 
+    @Override
+    public GateStructure structure() {
+        return kernel.structure();
+    }
+
+    @Override
+    public double[] matrix() {
+        return kernel.matrix().clone();
+    }
+
+    @Override
+    public Gate inverse() {
+        return kernel.inverse();
+    }
+
     /**
      * Apply this two-qubit gate to specified control and target qubits.
      * <p>
      * This implementation uses sparse matrix-vector multiplication by processing only the 4-amplitude blocks affected
-     * by the control and target qubits. Basis ordering: |00⟩, |01⟩, |10⟩, |11⟩ where control is LSB.
+     * by the control and target qubits, without allocating. Diagonal and permutation gates only touch the amplitudes
+     * they change (see {@link GateStructure}). Basis ordering: |00⟩, |01⟩, |10⟩, |11⟩ where control is LSB.
      * </p>
      *
      * @param state
@@ -51,49 +71,14 @@ public abstract class TwoQubitGate implements Gate {
      *            the target qubit index
      *
      * @throws IllegalArgumentException
-     *             if control and target are equal
+     *             if control and target are equal or out of range
      */
     public void apply(StateVector state, int control, int target) {
-        if (control == target)
-            throw new IllegalArgumentException("Two-qubit gate requires distinct qubits.");
-
-        Complex[] amps = state.getAmplitudes();
-        int dim = amps.length;
-
-        int maskControl = 1 << control;
-        int maskTarget = 1 << target;
-
-        // Loop through full state vector
-        for (int idx = 0; idx < dim; idx++) {
-
-            // Only process the "base" state where both bits are 0
-            if ((idx & maskControl) == 0 && (idx & maskTarget) == 0) {
-
-                // Calculate indices of the 4 basis combinations
-                int i00 = idx;
-                int i01 = idx | maskControl;
-                int i10 = idx | maskTarget;
-                int i11 = idx | maskControl | maskTarget;
-
-                // Original amplitudes
-                Complex a00 = amps[i00];
-                Complex a01 = amps[i01];
-                Complex a10 = amps[i10];
-                Complex a11 = amps[i11];
-
-                // New amplitudes after applying the 4x4 gate matrix
-                amps[i00] = matrix[0][0].mul(a00).add(matrix[0][1].mul(a01)).add(matrix[0][2].mul(a10))
-                        .add(matrix[0][3].mul(a11));
-
-                amps[i01] = matrix[1][0].mul(a00).add(matrix[1][1].mul(a01)).add(matrix[1][2].mul(a10))
-                        .add(matrix[1][3].mul(a11));
-
-                amps[i10] = matrix[2][0].mul(a00).add(matrix[2][1].mul(a01)).add(matrix[2][2].mul(a10))
-                        .add(matrix[2][3].mul(a11));
+        kernel.apply(state, control, target);
+    }
 
-                amps[i11] = matrix[3][0].mul(a00).add(matrix[3][1].mul(a01)).add(matrix[3][2].mul(a10))
-                        .add(matrix[3][3].mul(a11));
-            }
-        }
+    @Override
+    public void apply(StateVector state, int[] qubits) {
+        apply(state, qubits[0], qubits[1]);
     }
 }
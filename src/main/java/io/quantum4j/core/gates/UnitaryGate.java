@@ -0,0 +1,114 @@
+package io.quantum4j.core.gates;
+
+import io.quantum4j.core.math.Complex;
+import io.quantum4j.core.math.StateVector;
+
+/**
+ * Arbitrary dense unitary acting on k qubits.
+ *
+ * <p>
+ * Used for gates that have no dedicated class, most notably the blocks produced by
+ * {@link io.quantum4j.core.circuit.GateFusion}. The matrix is 2^k×2^k with the first target qubit as
+ * the least significant bit of the local basis index, matching {@link TwoQubitGate}.
+ * </p>
+ */
+public final class UnitaryGate implements Gate {
+
+    private final int numQubits;
+    private final double[] data;
+    private final GateKernel kernel;
+
+    /**
+     * Construct a unitary gate from a complex matrix.
+     *
+     * @param matrix
+     *            a 2^k×2^k complex matrix
+     *
+     * @throws IllegalArgumentException
+     *             if the matrix is not square with a power-of-two dimension
+     */
+    public UnitaryGate(Complex[][] matrix) {
+        this(log2(matrix.length), GateMatrices.flatten(matrix));
+        for (Complex[] row : matrix) {
+            if (row.length != matrix.length) {
+                throw new IllegalArgumentException("Unitary matrix must be square");
+            }
+        }
+    }
+
+    /**
+     * Construct a unitary gate from an interleaved row-major matrix.
+     *
+     * @param numQubits
+     *            number of qubits k (≥ 1)
+     * @param data
+     *            2·4^k doubles holding {@code re, im} pairs row by row; not copied
+     *
+     * @throws IllegalArgumentException
+     *             if the array length does not match k
+     */
+    public UnitaryGate(int numQubits, double[] data) {
+        if (numQubits < 1 || numQubits > 10 || data.length != 2 << (2 * numQubits)) {
+            throw new IllegalArgumentException("Unitary on " + numQubits + " qubits needs " + (2 << (2 * numQubits))
+                    + " doubles");
+        }
+        this.numQubits = numQubits;
+        this.data = data;
+        this.kernel = new GateKernel(numQubits, data);
+    }
+
+    private static int log2(int dim) {
+        if (dim < 2 || Integer.bitCount(dim) != 1) {
+            throw new IllegalArgumentException("Unitary dimension must be a power of two: " + dim);
+        }
+        return Integer.numberOfTrailingZeros(dim);
+    }
+
+    /**
+     * Get the matrix entry at row {@code r}, column {@code c}.
+     *
+     * @param r
+     *            row index
+     * @param c
+     *            column index
+     *
+     * @return the complex matrix entry
+     */
+    public Complex get(int r, int c) {
+        int e = 2 * ((r << numQubits) + c);
+        return new Complex(data[e], data[e + 1]);
+    }
+
+    @Override
+    public String name() {
+        return "unitary";
+    }
+
+    @Override
+    public int arity() {
+        return numQubits;
+    }
+
+    @Override
+    public GateStructure structure() {
+        return kernel.structure();
+    }
+
+    @Override
+    public double[] matrix() {
+        return kernel.matrix().clone();
+    }
+
+    @Override
+    public Gate inverse() {
+        return kernel.inverse();
+    }
+
+    @Override
+    public void apply(StateVector state, int[] qubits) {
+        if (qubits.length != numQubits) {
+            throw new IllegalArgumentException("Unitary gate expects " + numQubits + " qubits");
+        }
+        kernel.apply(state, qubits);
+    }
+}
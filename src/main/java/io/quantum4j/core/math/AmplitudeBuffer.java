@@ -0,0 +1,63 @@
+package io.quantum4j.core.math;
+
+/**
+ * Primitive, long-indexed storage for complex amplitudes.
+ * <p>
+ * Implementations keep amplitudes as raw {@code re, im} doubles so that {@link StateVector} kernels can read and
+ * write them without allocating. Indices are {@code long} so that states beyond 2^30 amplitudes can be addressed.
+ * </p>
+ */
+abstract class AmplitudeBuffer {
+
+    /**
+     * @return the number of complex amplitudes held by this buffer
+     */
+    abstract long size();
+
+    /**
+     * @return true if the amplitudes live outside the Java heap
+     */
+    abstract boolean isOffHeap();
+
+    abstract double re(long index);
+
+    abstract double im(long index);
+
+    abstract void set(long index, double re, double im);
+
+    /**
+     * Set every amplitude to zero.
+     */
+    abstract void clear();
+
+    /**
+     * Copy all amplitudes from another buffer of the same size.
+     *
+     * @param other
+     *            the source buffer
+     */
+    abstract void copyFrom(AmplitudeBuffer other);
+
+    /**
+     * Allocate a new zero-filled buffer of the same size and storage kind.
+     *
+     * @return a new buffer
+     */
+    abstract AmplitudeBuffer newEmpty();
+
+    /**
+     * Multiply the amplitude at {@code index} by a real factor.
+     */
+    void scale(long index, double factor) {
+        set(index, re(index) * factor, im(index) * factor);
+    }
+
+    /**
+     * @return |amplitude|² at {@code index}
+     */
+    double norm(long index) {
+        double r = re(index);
+        double i = im(index);
+        return r * r + i * i;
+    }
+}
@@ -0,0 +1,167 @@
+package io.quantum4j.core.math;
+
+import java.util.Arrays;
+
+/**
+ * Singular value decomposition of small dense complex matrices, M = U·diag(σ)·V†.
+ * <p>
+ * Uses one-sided Jacobi rotations on the columns, which is simple, needs no workspace beyond a copy of the matrix and
+ * is accurate for the small, well-scaled matrices produced by two-site tensor updates. Matrices are row-major with
+ * interleaved {@code re, im} pairs, as everywhere else in this package. Only the min(rows, cols) leading singular
+ * triplets are returned, sorted by decreasing σ.
+ * </p>
+ */
+final class ComplexSvd {
+
+    private static final double EPS = 1e-15;
+    private static final int MAX_SWEEPS = 80;
+
+    /** left singular vectors, rows × rank, row-major interleaved */
+    final double[] u;
+    /** singular values, descending */
+    final double[] s;
+    /** right singular vectors, cols × rank, row-major interleaved (so M = U·diag(s)·V†) */
+    final double[] v;
+    final int rows;
+    final int cols;
+    final int rank;
+
+    private ComplexSvd(double[] u, double[] s, double[] v, int rows, int cols) {
+        this.u = u;
+        this.s = s;
+        this.v = v;
+        this.rows = rows;
+        this.cols = cols;
+        this.rank = s.length;
+    }
+
+    /**
+     * Decompose a matrix.
+     *
+     * @param m
+     *            rows × cols matrix (not modified)
+     * @param rows
+     *            number of rows
+     * @param cols
+     *            number of columns
+     *
+     * @return the decomposition
+     */
+    static ComplexSvd decompose(double[] m, int rows, int cols) {
+        if (cols > rows) {
+            // M† = U'·S·V'†  ⇒  M = V'·S·U'†
+            ComplexSvd t = jacobi(conjugateTranspose(m, rows, cols), cols, rows);
+            return new ComplexSvd(t.v, t.s, t.u, rows, cols);
+        }
+        return jacobi(m, rows, cols);
+    }
+
+    /** One-sided Jacobi for rows ≥ cols: rotate columns of W = M·V until they are mutually orthogonal. */
+    private static ComplexSvd jacobi(double[] m, int rows, int cols) {
+        double[] w = m.clone();
+        double[] v = new double[2 * cols * cols];
+        for (int i = 0; i < cols; i++) {
+            v[2 * (i * cols + i)] = 1.0;
+        }
+
+        for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+            boolean rotated = false;
+            for (int i = 0; i < cols - 1; i++) {
+                for (int j = i + 1; j < cols; j++) {
+                    double alpha = 0, beta = 0, gRe = 0, gIm = 0;
+                    for (int r = 0; r < rows; r++) {
+                        int pi = 2 * (r * cols + i), pj = 2 * (r * cols + j);
+                        double aRe = w[pi], aIm = w[pi + 1], bRe = w[pj], bIm = w[pj + 1];
+                        alpha += aRe * aRe + aIm * aIm;
+                        beta += bRe * bRe + bIm * bIm;
+                        // conj(a)·b
+                        gRe += aRe * bRe + aIm * bIm;
+                        gIm += aRe * bIm - aIm * bRe;
+                    }
+                    double g = Math.hypot(gRe, gIm);
+                    if (g <= EPS * Math.sqrt(alpha * beta) || g == 0.0) {
+                        continue;
+                    }
+                    rotated = true;
+
+                    // phase e^{-iφ} makes conj(a)·(b·e^{-iφ}) real, then a real Jacobi rotation zeroes it
+                    double pRe = gRe / g, pIm = -gIm / g;
+                    double zeta = (beta - alpha) / (2 * g);
+                    double t = Math.signum(zeta) / (Math.abs(zeta) + Math.sqrt(1 + zeta * zeta));
+                    if (zeta == 0.0) {
+                        t = 1.0;
+                    }
+                    double c = 1 / Math.sqrt(1 + t * t);
+                    double sn = c * t;
+                    rotate(w, rows, cols, i, j, c, sn, pRe, pIm);
+                    rotate(v, cols, cols, i, j, c, sn, pRe, pIm);
+                }
+            }
+            if (!rotated) {
+                break;
+            }
+        }
+
+        // singular values are the column norms; sort descending
+        double[] norms = new double[cols];
+        Integer[] order = new Integer[cols];
+        for (int j = 0; j < cols; j++) {
+            double n2 = 0;
+            for (int r = 0; r < rows; r++) {
+                int p = 2 * (r * cols + j);
+                n2 += w[p] * w[p] + w[p + 1] * w[p + 1];
+            }
+            norms[j] = Math.sqrt(n2);
+            order[j] = j;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(norms[b], norms[a]));
+
+        double[] s = new double[cols];
+        double[] u = new double[2 * rows * cols];
+        double[] vs = new double[2 * cols * cols];
+        for (int k = 0; k < cols; k++) {
+            int j = order[k];
+            double sigma = norms[j];
+            s[k] = sigma;
+            double inv = sigma > 0 ? 1 / sigma : 0;
+            for (int r = 0; r < rows; r++) {
+                int src = 2 * (r * cols + j), dst = 2 * (r * cols + k);
+                u[dst] = w[src] * inv;
+                u[dst + 1] = w[src + 1] * inv;
+            }
+            for (int r = 0; r < cols; r++) {
+                int src = 2 * (r * cols + j), dst = 2 * (r * cols + k);
+                vs[dst] = v[src];
+                vs[dst + 1] = v[src + 1];
+            }
+        }
+        return new ComplexSvd(u, s, vs, rows, cols);
+    }
+
+    /** Columns (i, j) ← (c·a − s·b·p, s·a + c·b·p) with the phase p = e^{-iφ}. */
+    private static void rotate(double[] a, int rows, int cols, int i, int j, double c, double s, double pRe,
+            double pIm) {
+        for (int r = 0; r < rows; r++) {
+            int pi = 2 * (r * cols + i), pj = 2 * (r * cols + j);
+            double xRe = a[pi], xIm = a[pi + 1];
+            double yRe = a[pj] * pRe - a[pj + 1] * pIm;
+            double yIm = a[pj] * pIm + a[pj + 1] * pRe;
+            a[pi] = c * xRe - s * yRe;
+            a[pi + 1] = c * xIm - s * yIm;
+            a[pj] = s * xRe + c * yRe;
+            a[pj + 1] = s * xIm + c * yIm;
+        }
+    }
+
+    private static double[] conjugateTranspose(double[] m, int rows, int cols) {
+        double[] t = new double[m.length];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int src = 2 * (r * cols + c), dst = 2 * (c * rows + r);
+                t[dst] = m[src];
+                t[dst + 1] = -m[src + 1];
+            }
+        }
+        return t;
+    }
+}
@@ -0,0 +1,287 @@
+package io.quantum4j.core.math;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+
+/**
+ * Mixed quantum state of n qubits as a 2^n×2^n density matrix ρ.
+ * <p>
+ * ρ is stored vectorized in a {@link StateVector} of 2n qubits: element ρ[r, c] sits at index {@code (r << n) | c}, so
+ * column bit q is "qubit" q of the vector and row bit q is "qubit" q + n. A gate U becomes U on the row qubits followed
+ * by conj(U) on the column qubits, which gives U·ρ·U† with two passes of the ordinary strided state-vector kernels
+ * instead of a matrix product. A Kraus channel {K} becomes the superoperator Σ K ⊗ conj(K) on the row and column
+ * qubits together, applied in a single pass of the same kind. Parallel kernels and off-heap storage carry over from
+ * {@link StateVector}.
+ * </p>
+ * <p>
+ * Memory is 4^n amplitudes, so dense simulation stops at about 14 qubits on the heap. Instances are not thread-safe.
+ * </p>
+ */
+public final class DensityMatrix {
+
+    /** largest supported number of qubits */
+    public static final int MAX_QUBITS = StateVector.MAX_QUBITS / 2;
+
+    private final int numQubits;
+    private final StateVector vec;
+    private RandomGenerator random;
+
+    /**
+     * Create ρ = |00...0⟩⟨00...0|.
+     *
+     * @param numQubits
+     *            number of qubits (1 to {@value #MAX_QUBITS})
+     *
+     * @throws IllegalArgumentException
+     *             if numQubits is out of range
+     */
+    public DensityMatrix(int numQubits) {
+        if (numQubits < 1 || numQubits > MAX_QUBITS) {
+            throw new IllegalArgumentException("numQubits must be between 1 and " + MAX_QUBITS);
+        }
+        this.numQubits = numQubits;
+        this.vec = new StateVector(2 * numQubits);
+        this.random = RandomSources.create();
+    }
+
+    private DensityMatrix(DensityMatrix other) {
+        this.numQubits = other.numQubits;
+        this.vec = other.vec.copy();
+        this.random = RandomSources.split(other.random);
+    }
+
+    /**
+     * Create an independent copy of this density matrix (with its own random source).
+     *
+     * @return the copy
+     */
+    public DensityMatrix copy() {
+        return new DensityMatrix(this);
+    }
+
+    /**
+     * Replace the random source used for measurements.
+     * <p>
+     * Copies made afterwards split their own source off this one, so seeding a state makes it and all of its copies
+     * reproducible.
+     * </p>
+     *
+     * @param random
+     *            the random source
+     */
+    public void setRandom(RandomGenerator random) {
+        if (random == null)
+            throw new IllegalArgumentException("random must not be null");
+        this.random = random;
+    }
+
+    /**
+     * @return the number of qubits
+     */
+    public int getNumQubits() {
+        return numQubits;
+    }
+
+    /**
+     * Run kernels on a fork/join pool; see {@link StateVector#setParallelism(ForkJoinPool, int)}.
+     *
+     * @param pool
+     *            the pool, or null to run serially
+     * @param minQubits
+     *            smallest vectorized size (2n) for which kernels run in parallel
+     */
+    public void setParallelism(ForkJoinPool pool, int minQubits) {
+        vec.setParallelism(pool, minQubits);
+    }
+
+    /**
+     * Get one matrix element.
+     *
+     * @param row
+     *            row index
+     * @param col
+     *            column index
+     *
+     * @return ρ[row, col]
+     */
+    public Complex getElement(long row, long col) {
+        return vec.getAmplitude((row << numQubits) | col);
+    }
+
+    /**
+     * Get the probability of a basis state, read off the diagonal.
+     *
+     * @param index
+     *            basis index
+     *
+     * @return ρ[index, index] (real part)
+     */
+    public double probability(long index) {
+        return vec.getAmplitude((index << numQubits) | index).getRe();
+    }
+
+    /**
+     * Copy the diagonal of ρ into a probability vector.
+     *
+     * @return the 2^n outcome probabilities
+     */
+    public double[] probabilities() {
+        double[] p = new double[1 << numQubits];
+        for (int i = 0; i < p.length; i++) {
+            p[i] = probability(i);
+        }
+        return p;
+    }
+
+    /**
+     * @return Tr ρ (1 for a normalized state)
+     */
+    public double trace() {
+        double t = 0;
+        for (long i = 0; i < (1L << numQubits); i++) {
+            t += probability(i);
+        }
+        return t;
+    }
+
+    // ----------------------------------------------------------------------
+    // Evolution
+    // ----------------------------------------------------------------------
+
+    /**
+     * Apply a unitary: ρ ↦ U·ρ·U†.
+     *
+     * @param m
+     *            interleaved row-major matrix (2·4^k doubles); {@code qubits[0]} is the low bit of the local index
+     * @param qubits
+     *            the distinct target qubits
+     */
+    public void applyUnitary(double[] m, int... qubits) {
+        double[] conj = m.clone();
+        for (int i = 1; i < conj.length; i += 2) {
+            conj[i] = -conj[i];
+        }
+        vec.applyMatrix(m, rowQubits(checkQubits(qubits)));
+        vec.applyMatrix(conj, qubits);
+    }
+
+    /**
+     * Apply a channel given by its Kraus operators: ρ ↦ Σ K·ρ·K†.
+     *
+     * @param kraus
+     *            Kraus operators on k qubits, each 2·4^k doubles
+     * @param qubits
+     *            the k distinct target qubits
+     */
+    public void applyChannel(double[][] kraus, int... qubits) {
+        applySuperoperator(superoperator(kraus, qubits.length), qubits);
+    }
+
+    /**
+     * Apply a precomputed superoperator (see {@link #superoperator(double[][], int)}).
+     *
+     * @param s
+     *            4^k×4^k interleaved matrix
+     * @param qubits
+     *            the k distinct target qubits
+     */
+    public void applySuperoperator(double[] s, int... qubits) {
+        int k = qubits.length;
+        int[] targets = new int[2 * k];
+        System.arraycopy(checkQubits(qubits), 0, targets, 0, k);
+        System.arraycopy(rowQubits(qubits), 0, targets, k, k);
+        vec.applyMatrix(s, targets);
+    }
+
+    /**
+     * Build the superoperator Σ K ⊗ conj(K) of a Kraus channel.
+     * <p>
+     * Its local index is {@code c + 2^k·r}: the column bits of the k targets are the low half, their row bits the high
+     * half, matching {@link #applySuperoperator(double[], int...)}.
+     * </p>
+     *
+     * @param kraus
+     *            Kraus operators, each 2·4^k doubles
+     * @param k
+     *            number of qubits the operators act on
+     *
+     * @return the 4^k×4^k superoperator, interleaved row-major
+     */
+    public static double[] superoperator(double[][] kraus, int k) {
+        int d = 1 << k;
+        int dd = d * d;
+        double[] s = new double[2 * dd * dd];
+        for (double[] op : kraus) {
+            if (op.length != 2 * dd) {
+                throw new IllegalArgumentException("Kraus operator size does not match " + k + " qubits");
+            }
+            for (int r2 = 0; r2 < d; r2++) {
+                for (int c2 = 0; c2 < d; c2++) {
+                    int row = c2 + d * r2;
+                    for (int r = 0; r < d; r++) {
+                        double ar = op[2 * (r2 * d + r)], ai = op[2 * (r2 * d + r) + 1];
+                        if (ar == 0.0 && ai == 0.0)
+                            continue;
+                        for (int c = 0; c < d; c++) {
+                            // K[r2, r] * conj(K[c2, c])
+                            double br = op[2 * (c2 * d + c)], bi = -op[2 * (c2 * d + c) + 1];
+                            int e = 2 * (row * dd + c + d * r);
+                            s[e] += ar * br - ai * bi;
+                            s[e + 1] += ar * bi + ai * br;
+                        }
+                    }
+                }
+            }
+        }
+        return s;
+    }
+
+    // ----------------------------------------------------------------------
+    // Measurement
+    // ----------------------------------------------------------------------
+
+    /**
+     * Measure one qubit in the computational basis and collapse ρ onto the outcome.
+     *
+     * @param qubit
+     *            qubit to measure
+     *
+     * @return the outcome, 0 or 1
+     */
+    public int measure(int qubit) {
+        checkQubits(new int[] { qubit });
+        double p0 = 0, p1 = 0;
+        long bit = 1L << qubit;
+        for (long i = 0; i < (1L << numQubits); i++) {
+            if ((i & bit) == 0)
+                p0 += probability(i);
+            else
+                p1 += probability(i);
+        }
+        int outcome = random.nextDouble() * (p0 + p1) < p0 ? 0 : 1;
+
+        // projector on row and column bit: keep ρ[r, c] only where both bits equal the outcome
+        double[] diagonal = new double[8];
+        int keep = outcome | (outcome << 1);
+        diagonal[2 * keep] = 1 / (outcome == 0 ? p0 : p1);
+        vec.applyDiagonal(diagonal, qubit, qubit + numQubits);
+        return outcome;
+    }
+
+    private int[] rowQubits(int[] qubits) {
+        int[] rows = new int[qubits.length];
+        for (int i = 0; i < qubits.length; i++) {
+            rows[i] = qubits[i] + numQubits;
+        }
+        return rows;
+    }
+
+    private int[] checkQubits(int[] qubits) {
+        for (int q : qubits) {
+            if (q < 0 || q >= numQubits) {
+                throw new IllegalArgumentException("Invalid qubit index: " + q);
+            }
+        }
+        return qubits;
+    }
+}
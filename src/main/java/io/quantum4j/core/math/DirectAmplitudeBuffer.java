@@ -0,0 +1,97 @@
+package io.quantum4j.core.math;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * {@link AmplitudeBuffer} backed by chunked direct {@link ByteBuffer}s outside the Java heap.
+ * <p>
+ * Each chunk holds up to 2^{@value #CHUNK_SHIFT} amplitudes (16 bytes each, native byte order), so the buffer can
+ * address more than 2^31 amplitudes and is never scanned by the garbage collector. Direct memory is bounded by
+ * {@code -XX:MaxDirectMemorySize}, which must be raised for very large states.
+ * </p>
+ */
+final class DirectAmplitudeBuffer extends AmplitudeBuffer {
+
+    /** log2 of the number of amplitudes per chunk (2^26 amplitudes = 1 GiB) */
+    static final int CHUNK_SHIFT = 26;
+
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+    private static final int BYTES_PER_AMPLITUDE = 16;
+
+    private final long size;
+    private final ByteBuffer[] chunks;
+
+    DirectAmplitudeBuffer(long size) {
+        long numChunks = (size + CHUNK_MASK) >>> CHUNK_SHIFT;
+        if (numChunks > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("State vector too large: " + size + " amplitudes");
+        }
+        this.size = size;
+        this.chunks = new ByteBuffer[(int) numChunks];
+        long remaining = size;
+        for (int c = 0; c < chunks.length; c++) {
+            long amps = Math.min(remaining, 1L << CHUNK_SHIFT);
+            // direct buffers are zero-filled on allocation
+            chunks[c] = ByteBuffer.allocateDirect((int) amps * BYTES_PER_AMPLITUDE).order(ByteOrder.nativeOrder());
+            remaining -= amps;
+        }
+    }
+
+    @Override
+    long size() {
+        return size;
+    }
+
+    @Override
+    boolean isOffHeap() {
+        return true;
+    }
+
+    @Override
+    double re(long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)].getDouble((int) (index & CHUNK_MASK) << 4);
+    }
+
+    @Override
+    double im(long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)].getDouble(((int) (index & CHUNK_MASK) << 4) + 8);
+    }
+
+    @Override
+    void set(long index, double re, double im) {
+        ByteBuffer chunk = chunks[(int) (index >>> CHUNK_SHIFT)];
+        int offset = (int) (index & CHUNK_MASK) << 4;
+        chunk.putDouble(offset, re);
+        chunk.putDouble(offset + 8, im);
+    }
+
+    @Override
+    void clear() {
+        for (ByteBuffer chunk : chunks) {
+            int limit = chunk.capacity();
+            for (int offset = 0; offset < limit; offset += 8) {
+                chunk.putLong(offset, 0L);
+            }
+        }
+    }
+
+    @Override
+    void copyFrom(AmplitudeBuffer other) {
+        if (other instanceof DirectAmplitudeBuffer) {
+            ByteBuffer[] src = ((DirectAmplitudeBuffer) other).chunks;
+            for (int c = 0; c < chunks.length; c++) {
+                chunks[c].put(0, src[c], 0, src[c].capacity());
+            }
+            return;
+        }
+        for (long i = 0; i < size; i++) {
+            set(i, other.re(i), other.im(i));
+        }
+    }
+
+    @Override
+    AmplitudeBuffer newEmpty() {
+        return new DirectAmplitudeBuffer(size);
+    }
+}
@@ -0,0 +1,73 @@
+package io.quantum4j.core.math;
+
+import java.util.Arrays;
+
+/**
+ * {@link AmplitudeBuffer} backed by a single interleaved {@code double[]} on the Java heap.
+ * <p>
+ * Limited to 2^29 amplitudes by the maximum Java array length.
+ * </p>
+ */
+final class HeapAmplitudeBuffer extends AmplitudeBuffer {
+
+    /** largest qubit count whose interleaved amplitudes fit in one Java array */
+    static final int MAX_QUBITS = 29;
+
+    private final double[] data;
+
+    HeapAmplitudeBuffer(long size) {
+        if (size > (1L << MAX_QUBITS)) {
+            throw new IllegalArgumentException("Heap state vectors are limited to " + MAX_QUBITS + " qubits");
+        }
+        this.data = new double[(int) size << 1];
+    }
+
+    @Override
+    long size() {
+        return data.length >> 1;
+    }
+
+    @Override
+    boolean isOffHeap() {
+        return false;
+    }
+
+    @Override
+    double re(long index) {
+        return data[(int) index << 1];
+    }
+
+    @Override
+    double im(long index) {
+        return data[((int) index << 1) + 1];
+    }
+
+    @Override
+    void set(long index, double re, double im) {
+        int p = (int) index << 1;
+        data[p] = re;
+        data[p + 1] = im;
+    }
+
+    @Override
+    void clear() {
+        Arrays.fill(data, 0.0);
+    }
+
+    @Override
+    void copyFrom(AmplitudeBuffer other) {
+        if (other instanceof HeapAmplitudeBuffer) {
+            System.arraycopy(((HeapAmplitudeBuffer) other).data, 0, data, 0, data.length);
+            return;
+        }
+        long n = size();
+        for (long i = 0; i < n; i++) {
+            set(i, other.re(i), other.im(i));
+        }
+    }
+
+    @Override
+    AmplitudeBuffer newEmpty() {
+        return new HeapAmplitudeBuffer(size());
+    }
+}
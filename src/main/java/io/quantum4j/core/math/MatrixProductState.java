@@ -0,0 +1,559 @@
+package io.quantum4j.core.math;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Quantum state of n qubits as a matrix product state (MPS).
+ * <p>
+ * Each qubit q owns a rank-3 tensor A[q] of shape χ(q) × 2 × χ(q+1), stored row-major with interleaved {@code re, im}
+ * pairs; the outer bonds χ(0) and χ(n) are 1. The amplitude of a basis state is the matrix product
+ * A[0][s0]·A[1][s1]···A[n-1][s(n-1)]. Memory and gate cost grow with the bond dimensions instead of 2^n, so weakly
+ * entangled circuits on many qubits stay cheap.
+ * </p>
+ * <p>
+ * The state is kept in mixed canonical form around an orthogonality center: tensors left of the center are left
+ * isometries, tensors right of it right isometries. Single-qubit gates act on one tensor. A two-qubit gate on
+ * neighbours moves the center onto the pair, contracts the two tensors, applies the 4×4 matrix and splits the result
+ * again with an SVD. The split keeps at most {@code maxBondDimension} singular values and drops the smallest ones as
+ * long as their total weight (sum of σ²) stays within {@code truncationThreshold}; the kept values are rescaled so the
+ * state stays normalized and the discarded weight is accumulated in {@link #getTruncationError()}. Gates on
+ * non-adjacent qubits are routed with SWAPs and the qubits are moved back afterwards; each routing SWAP is a two-site
+ * update and is truncated the same way.
+ * </p>
+ * <p>
+ * Qubit conventions match {@link StateVector}: qubit 0 is the least significant bit of a basis index, and for a
+ * two-qubit matrix the first listed qubit is the low bit of the local index. Instances are not thread-safe.
+ * </p>
+ */
+public final class MatrixProductState {
+
+    private static final double[] SWAP = {
+            1, 0, 0, 0, 0, 0, 0, 0,
+            0, 0, 0, 0, 1, 0, 0, 0,
+            0, 0, 1, 0, 0, 0, 0, 0,
+            0, 0, 0, 0, 0, 0, 1, 0 };
+
+    /** relative weight below which a singular value is treated as a rounding error */
+    private static final double ROUNDOFF = 1e-26;
+
+    private final int numQubits;
+    private final int maxBondDimension;
+    private final double truncationThreshold;
+    private final double[][] tensors;
+    private final int[] bonds; // bonds[q] = left dimension of tensor q; bonds[numQubits] = 1
+    private int center;
+    private double truncationError;
+    private RandomGenerator random;
+
+    /**
+     * Create |00...0⟩ as a product state (all bond dimensions 1).
+     *
+     * @param numQubits
+     *            number of qubits (≥ 1)
+     * @param maxBondDimension
+     *            largest bond dimension kept by two-qubit gates (≥ 1)
+     * @param truncationThreshold
+     *            largest discarded weight (sum of dropped σ²) per split, in [0, 1); 0 drops only exact zeros
+     *
+     * @throws IllegalArgumentException
+     *             if an argument is out of range
+     */
+    public MatrixProductState(int numQubits, int maxBondDimension, double truncationThreshold) {
+        if (numQubits < 1) {
+            throw new IllegalArgumentException("numQubits must be >= 1");
+        }
+        if (maxBondDimension < 1) {
+            throw new IllegalArgumentException("maxBondDimension must be >= 1");
+        }
+        if (!(truncationThreshold >= 0.0 && truncationThreshold < 1.0)) {
+            throw new IllegalArgumentException("truncationThreshold must be in [0, 1)");
+        }
+        this.numQubits = numQubits;
+        this.maxBondDimension = maxBondDimension;
+        this.truncationThreshold = truncationThreshold;
+        this.tensors = new double[numQubits][];
+        this.bonds = new int[numQubits + 1];
+        for (int q = 0; q < numQubits; q++) {
+            tensors[q] = new double[4];
+            tensors[q][0] = 1.0; // A[0, s=0, 0] = 1
+            bonds[q] = 1;
+        }
+        bonds[numQubits] = 1;
+        this.random = RandomSources.create();
+    }
+
+    private MatrixProductState(MatrixProductState other) {
+        this.numQubits = other.numQubits;
+        this.maxBondDimension = other.maxBondDimension;
+        this.truncationThreshold = other.truncationThreshold;
+        this.tensors = new double[numQubits][];
+        for (int q = 0; q < numQubits; q++) {
+            tensors[q] = other.tensors[q].clone();
+        }
+        this.bonds = other.bonds.clone();
+        this.center = other.center;
+        this.truncationError = other.truncationError;
+        this.random = RandomSources.split(other.random);
+    }
+
+    /**
+     * Create an independent copy of this state (with its own random source).
+     *
+     * @return the copy
+     */
+    public MatrixProductState copy() {
+        return new MatrixProductState(this);
+    }
+
+    /**
+     * Replace the random source used for measurements and sampling.
+     * <p>
+     * Copies made afterwards split their own source off this one, so seeding a state makes it and all of its copies
+     * reproducible.
+     * </p>
+     *
+     * @param random
+     *            the random source
+     */
+    public void setRandom(RandomGenerator random) {
+        if (random == null)
+            throw new IllegalArgumentException("random must not be null");
+        this.random = random;
+    }
+
+    /**
+     * @return the number of qubits
+     */
+    public int getNumQubits() {
+        return numQubits;
+    }
+
+    /**
+     * Get the dimension of the bond between qubits {@code q - 1} and {@code q}.
+     *
+     * @param q
+     *            bond index, 0 to numQubits (the outer bonds are always 1)
+     *
+     * @return the bond dimension
+     */
+    public int getBondDimension(int q) {
+        if (q < 0 || q > numQubits) {
+            throw new IllegalArgumentException("Invalid bond index: " + q);
+        }
+        return bonds[q];
+    }
+
+    /**
+     * @return the largest bond dimension currently in the state
+     */
+    public int getMaxBondDimensionInUse() {
+        int max = 1;
+        for (int b : bonds) {
+            max = Math.max(max, b);
+        }
+        return max;
+    }
+
+    /**
+     * Get the total weight discarded by truncation so far. For small values this bounds the infidelity of the state,
+     * 1 − |⟨exact|ψ⟩|², to first order.
+     *
+     * @return the sum of all discarded σ²
+     */
+    public double getTruncationError() {
+        return truncationError;
+    }
+
+    // ----------------------------------------------------------------------
+    // Gates
+    // ----------------------------------------------------------------------
+
+    /**
+     * Apply a 2×2 matrix to one qubit.
+     *
+     * @param m
+     *            row-major interleaved matrix (8 doubles)
+     * @param q
+     *            target qubit
+     */
+    public void applySingleQubit(double[] m, int q) {
+        checkQubit(q);
+        double[] a = tensors[q];
+        int chiR = bonds[q + 1];
+        int chiL = bonds[q];
+        for (int l = 0; l < chiL; l++) {
+            for (int r = 0; r < chiR; r++) {
+                int p0 = 2 * ((l * 2) * chiR + r);
+                int p1 = 2 * ((l * 2 + 1) * chiR + r);
+                double a0r = a[p0], a0i = a[p0 + 1], a1r = a[p1], a1i = a[p1 + 1];
+                a[p0] = m[0] * a0r - m[1] * a0i + m[2] * a1r - m[3] * a1i;
+                a[p0 + 1] = m[0] * a0i + m[1] * a0r + m[2] * a1i + m[3] * a1r;
+                a[p1] = m[4] * a0r - m[5] * a0i + m[6] * a1r - m[7] * a1i;
+                a[p1 + 1] = m[4] * a0i + m[5] * a0r + m[6] * a1i + m[7] * a1r;
+            }
+        }
+    }
+
+    /**
+     * Apply a 4×4 matrix to two qubits. {@code q0} is the low bit of the matrix's local index. Qubits that are not
+     * neighbours are first brought together with SWAPs, and moved back afterwards.
+     *
+     * @param m
+     *            row-major interleaved matrix (32 doubles)
+     * @param q0
+     *            first qubit
+     * @param q1
+     *            second qubit
+     *
+     * @throws IllegalArgumentException
+     *             if the qubits are out of range or equal
+     */
+    public void applyTwoQubit(double[] m, int q0, int q1) {
+        checkQubit(q0);
+        checkQubit(q1);
+        if (q0 == q1) {
+            throw new IllegalArgumentException("Two-qubit gate requires distinct qubits.");
+        }
+
+        // move q1 next to q0
+        int step = q1 > q0 ? -1 : 1;
+        int pos = q1;
+        while (Math.abs(pos - q0) > 1) {
+            applyAdjacent(SWAP, pos, pos + step);
+            pos += step;
+        }
+        applyAdjacent(m, q0, pos);
+        while (pos != q1) {
+            applyAdjacent(SWAP, pos, pos - step);
+            pos -= step;
+        }
+    }
+
+    /** Two-site update on neighbours {@code q0}, {@code q1} = q0 ± 1. */
+    private void applyAdjacent(double[] m, int q0, int q1) {
+        int left = Math.min(q0, q1);
+        boolean lowIsLeft = q0 == left;
+        moveCenter(left);
+
+        int chiL = bonds[left], chiM = bonds[left + 1], chiR = bonds[left + 2];
+        double[] a = tensors[left], b = tensors[left + 1];
+
+        // theta[l, sL, sR, r] = sum_m A[l, sL, m] B[m, sR, r]
+        double[] theta = new double[2 * chiL * 4 * chiR];
+        for (int l = 0; l < chiL; l++) {
+            for (int sL = 0; sL < 2; sL++) {
+                for (int k = 0; k < chiM; k++) {
+                    int pa = 2 * ((l * 2 + sL) * chiM + k);
+                    double ar = a[pa], ai = a[pa + 1];
+                    if (ar == 0.0 && ai == 0.0)
+                        continue;
+                    for (int sR = 0; sR < 2; sR++) {
+                        int pt = 2 * (((l * 2 + sL) * 2 + sR) * chiR);
+                        int pb = 2 * ((k * 2 + sR) * chiR);
+                        for (int r = 0; r < chiR; r++) {
+                            double br = b[pb + 2 * r], bi = b[pb + 2 * r + 1];
+                            theta[pt + 2 * r] += ar * br - ai * bi;
+                            theta[pt + 2 * r + 1] += ar * bi + ai * br;
+                        }
+                    }
+                }
+            }
+        }
+
+        // apply the gate on the physical pair; local index = low + 2 * high
+        double[] in = new double[8];
+        for (int l = 0; l < chiL; l++) {
+            for (int r = 0; r < chiR; r++) {
+                for (int sL = 0; sL < 2; sL++) {
+                    for (int sR = 0; sR < 2; sR++) {
+                        int local = lowIsLeft ? sL + 2 * sR : sR + 2 * sL;
+                        int pt = 2 * (((l * 2 + sL) * 2 + sR) * chiR + r);
+                        in[2 * local] = theta[pt];
+                        in[2 * local + 1] = theta[pt + 1];
+                    }
+                }
+                for (int sL = 0; sL < 2; sL++) {
+                    for (int sR = 0; sR < 2; sR++) {
+                        int row = lowIsLeft ? sL + 2 * sR : sR + 2 * sL;
+                        double re = 0, im = 0;
+                        for (int c = 0; c < 4; c++) {
+                            double mr = m[2 * (row * 4 + c)], mi = m[2 * (row * 4 + c) + 1];
+                            re += mr * in[2 * c] - mi * in[2 * c + 1];
+                            im += mr * in[2 * c + 1] + mi * in[2 * c];
+                        }
+                        int pt = 2 * (((l * 2 + sL) * 2 + sR) * chiR + r);
+                        theta[pt] = re;
+                        theta[pt + 1] = im;
+                    }
+                }
+            }
+        }
+
+        // split: rows (l, sL), columns (sR, r)
+        int rows = 2 * chiL, cols = 2 * chiR;
+        ComplexSvd svd = ComplexSvd.decompose(theta, rows, cols);
+        int keep = truncate(svd.s, maxBondDimension, truncationThreshold);
+
+        double[] na = new double[2 * rows * keep];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(svd.u, 2 * i * svd.rank, na, 2 * i * keep, 2 * keep);
+        }
+        double[] nb = new double[2 * keep * cols];
+        for (int k = 0; k < keep; k++) {
+            double sigma = svd.s[k];
+            for (int j = 0; j < cols; j++) {
+                int pv = 2 * (j * svd.rank + k);
+                nb[2 * (k * cols + j)] = sigma * svd.v[pv];
+                nb[2 * (k * cols + j) + 1] = -sigma * svd.v[pv + 1];
+            }
+        }
+        tensors[left] = na;
+        tensors[left + 1] = nb;
+        bonds[left + 1] = keep;
+        center = left + 1;
+    }
+
+    /**
+     * Choose how many singular values to keep and rescale them to the original norm.
+     *
+     * @return the number of kept values (≥ 1)
+     */
+    private int truncate(double[] s, int maxKeep, double threshold) {
+        double total = 0;
+        for (double v : s) {
+            total += v * v;
+        }
+        int keep = s.length;
+        double discarded = 0;
+        while (keep > 1) {
+            double w = s[keep - 1] * s[keep - 1];
+            if (keep > maxKeep || w <= ROUNDOFF * total || discarded + w <= threshold * total) {
+                discarded += w;
+                keep--;
+            } else {
+                break;
+            }
+        }
+        if (discarded > 0 && total > 0) {
+            truncationError += discarded / total;
+            double scale = Math.sqrt(total / (total - discarded));
+            for (int k = 0; k < keep; k++) {
+                s[k] *= scale;
+            }
+        }
+        return keep;
+    }
+
+    /** Shift the orthogonality center to {@code target} with exact (untruncated) SVD sweeps. */
+    private void moveCenter(int target) {
+        while (center < target) {
+            int q = center;
+            int chiL = bonds[q], chiR = bonds[q + 1], chiN = bonds[q + 2];
+            // A[q] as (l, s) × r  =  U · (S V†)
+            ComplexSvd svd = ComplexSvd.decompose(tensors[q], 2 * chiL, chiR);
+            int keep = rank(svd.s);
+            double[] na = new double[2 * 2 * chiL * keep];
+            for (int i = 0; i < 2 * chiL; i++) {
+                System.arraycopy(svd.u, 2 * i * svd.rank, na, 2 * i * keep, 2 * keep);
+            }
+            // next[k, s, r] = sum_m (S V†)[k, m] next[m, s, r]
+            double[] next = tensors[q + 1];
+            double[] nn = new double[2 * keep * 2 * chiN];
+            for (int k = 0; k < keep; k++) {
+                for (int m = 0; m < chiR; m++) {
+                    int pv = 2 * (m * svd.rank + k);
+                    double cr = svd.s[k] * svd.v[pv], ci = -svd.s[k] * svd.v[pv + 1];
+                    for (int j = 0; j < 2 * chiN; j++) {
+                        double xr = next[2 * (m * 2 * chiN + j)], xi = next[2 * (m * 2 * chiN + j) + 1];
+                        nn[2 * (k * 2 * chiN + j)] += cr * xr - ci * xi;
+                        nn[2 * (k * 2 * chiN + j) + 1] += cr * xi + ci * xr;
+                    }
+                }
+            }
+            tensors[q] = na;
+            tensors[q + 1] = nn;
+            bonds[q + 1] = keep;
+            center++;
+        }
+        while (center > target) {
+            int q = center;
+            int chiP = bonds[q - 1], chiL = bonds[q], chiR = bonds[q + 1];
+            // A[q] as l × (s, r)  =  (U S) · V†
+            ComplexSvd svd = ComplexSvd.decompose(tensors[q], chiL, 2 * chiR);
+            int keep = rank(svd.s);
+            double[] na = new double[2 * keep * 2 * chiR];
+            for (int k = 0; k < keep; k++) {
+                for (int j = 0; j < 2 * chiR; j++) {
+                    int pv = 2 * (j * svd.rank + k);
+                    na[2 * (k * 2 * chiR + j)] = svd.v[pv];
+                    na[2 * (k * 2 * chiR + j) + 1] = -svd.v[pv + 1];
+                }
+            }
+            // prev[i, s, k] = sum_m prev[i, s, m] (U S)[m, k]
+            double[] prev = tensors[q - 1];
+            double[] np = new double[2 * chiP * 2 * keep];
+            for (int i = 0; i < 2 * chiP; i++) {
+                for (int m = 0; m < chiL; m++) {
+                    double xr = prev[2 * (i * chiL + m)], xi = prev[2 * (i * chiL + m) + 1];
+                    if (xr == 0.0 && xi == 0.0)
+                        continue;
+                    for (int k = 0; k < keep; k++) {
+                        int pu = 2 * (m * svd.rank + k);
+                        double cr = svd.u[pu] * svd.s[k], ci = svd.u[pu + 1] * svd.s[k];
+                        np[2 * (i * keep + k)] += xr * cr - xi * ci;
+                        np[2 * (i * keep + k) + 1] += xr * ci + xi * cr;
+                    }
+                }
+            }
+            tensors[q] = na;
+            tensors[q - 1] = np;
+            bonds[q] = keep;
+            center--;
+        }
+    }
+
+    /** Number of non-negligible singular values (at least 1). */
+    private static int rank(double[] s) {
+        int keep = s.length;
+        double cutoff = s[0] * 1e-14;
+        while (keep > 1 && s[keep - 1] <= cutoff) {
+            keep--;
+        }
+        return keep;
+    }
+
+    // ----------------------------------------------------------------------
+    // Measurement
+    // ----------------------------------------------------------------------
+
+    /**
+     * Measure one qubit in the computational basis and collapse the state.
+     *
+     * @param q
+     *            qubit to measure
+     *
+     * @return the outcome, 0 or 1
+     */
+    public int measure(int q) {
+        checkQubit(q);
+        moveCenter(q);
+        double[] a = tensors[q];
+        int chiL = bonds[q], chiR = bonds[q + 1];
+
+        double p0 = 0, p1 = 0;
+        for (int l = 0; l < chiL; l++) {
+            for (int r = 0; r < chiR; r++) {
+                int i0 = 2 * ((l * 2) * chiR + r), i1 = 2 * ((l * 2 + 1) * chiR + r);
+                p0 += a[i0] * a[i0] + a[i0 + 1] * a[i0 + 1];
+                p1 += a[i1] * a[i1] + a[i1 + 1] * a[i1 + 1];
+            }
+        }
+        int outcome = random.nextDouble() * (p0 + p1) < p0 ? 0 : 1;
+        double scale = 1 / Math.sqrt(outcome == 0 ? p0 : p1);
+        for (int l = 0; l < chiL; l++) {
+            for (int r = 0; r < chiR; r++) {
+                int keep = 2 * ((l * 2 + outcome) * chiR + r);
+                int drop = 2 * ((l * 2 + 1 - outcome) * chiR + r);
+                a[keep] *= scale;
+                a[keep + 1] *= scale;
+                a[drop] = 0;
+                a[drop + 1] = 0;
+            }
+        }
+        return outcome;
+    }
+
+    /**
+     * Draw one outcome for every qubit from the Born distribution without collapsing the state.
+     * <p>
+     * Samples qubit by qubit from the conditional distributions: with the center on qubit 0 every tensor to the right
+     * is a right isometry, so the probability of the next bit given the previous ones is the squared norm of a vector
+     * of length χ. One sample costs O(n·χ²).
+     * </p>
+     *
+     * @param outcome
+     *            receives one bit (0 or 1) per qubit
+     */
+    public void sample(int[] outcome) {
+        if (outcome.length != numQubits) {
+            throw new IllegalArgumentException("Outcome array must have one entry per qubit");
+        }
+        moveCenter(0);
+        double[] env = { 1.0, 0.0 };
+        for (int q = 0; q < numQubits; q++) {
+            double[] a = tensors[q];
+            int chiL = bonds[q], chiR = bonds[q + 1];
+            double[] v0 = new double[2 * chiR];
+            double[] v1 = new double[2 * chiR];
+            for (int l = 0; l < chiL; l++) {
+                double er = env[2 * l], ei = env[2 * l + 1];
+                if (er == 0.0 && ei == 0.0)
+                    continue;
+                for (int r = 0; r < chiR; r++) {
+                    int i0 = 2 * ((l * 2) * chiR + r), i1 = 2 * ((l * 2 + 1) * chiR + r);
+                    v0[2 * r] += er * a[i0] - ei * a[i0 + 1];
+                    v0[2 * r + 1] += er * a[i0 + 1] + ei * a[i0];
+                    v1[2 * r] += er * a[i1] - ei * a[i1 + 1];
+                    v1[2 * r + 1] += er * a[i1 + 1] + ei * a[i1];
+                }
+            }
+            double p0 = normSquared(v0), p1 = normSquared(v1);
+            int bit = random.nextDouble() * (p0 + p1) < p0 ? 0 : 1;
+            double[] v = bit == 0 ? v0 : v1;
+            double scale = 1 / Math.sqrt(bit == 0 ? p0 : p1);
+            for (int i = 0; i < v.length; i++) {
+                v[i] *= scale;
+            }
+            outcome[q] = bit;
+            env = v;
+        }
+    }
+
+    /**
+     * Compute the amplitude of one basis state by contracting the chain.
+     *
+     * @param index
+     *            basis index (bit q is the value of qubit q)
+     *
+     * @return the amplitude ⟨index|ψ⟩
+     *
+     * @throws IllegalArgumentException
+     *             if the index is out of range, or the state has more than 63 qubits
+     */
+    public Complex amplitude(long index) {
+        if (numQubits > 63 || index < 0 || index >>> numQubits != 0) {
+            throw new IllegalArgumentException("Invalid basis index: " + index);
+        }
+        double[] env = { 1.0, 0.0 };
+        for (int q = 0; q < numQubits; q++) {
+            int s = (int) ((index >>> q) & 1L);
+            double[] a = tensors[q];
+            int chiL = bonds[q], chiR = bonds[q + 1];
+            double[] next = new double[2 * chiR];
+            for (int l = 0; l < chiL; l++) {
+                double er = env[2 * l], ei = env[2 * l + 1];
+                for (int r = 0; r < chiR; r++) {
+                    int p = 2 * ((l * 2 + s) * chiR + r);
+                    next[2 * r] += er * a[p] - ei * a[p + 1];
+                    next[2 * r + 1] += er * a[p + 1] + ei * a[p];
+                }
+            }
+            env = next;
+        }
+        return new Complex(env[0], env[1]);
+    }
+
+    private static double normSquared(double[] v) {
+        double sum = 0;
+        for (double x : v) {
+            sum += x * x;
+        }
+        return sum;
+    }
+
+    private void checkQubit(int qubit) {
+        if (qubit < 0 || qubit >= numQubits) {
+            throw new IllegalArgumentException("Invalid qubit index: " + qubit);
+        }
+    }
+}
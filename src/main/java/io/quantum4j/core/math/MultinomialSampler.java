@@ -0,0 +1,153 @@
+package io.quantum4j.core.math;
+
+import java.util.function.LongToDoubleFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws a whole shot histogram from a discrete probability distribution in one pass.
+ * <p>
+ * Instead of sampling each shot separately, the sampler walks the outcomes once and assigns
+ * {@code Binomial(remainingShots, p_i / remainingMass)} shots to outcome {@code i} (the conditional-binomial
+ * decomposition of the multinomial distribution). The walk stops as soon as every shot is placed, so the cost is
+ * O(2^n + shots) with no per-shot allocation, and weights can be read straight from amplitude storage without
+ * materializing a probability array.
+ * </p>
+ */
+public final class MultinomialSampler {
+
+    /**
+     * Receives the non-zero entries of a sampled histogram, in ascending outcome order.
+     */
+    @FunctionalInterface
+    public interface Sink {
+        /**
+         * @param outcome
+         *            the outcome index
+         * @param count
+         *            how many shots landed on it (always &gt; 0)
+         */
+        void accept(long outcome, int count);
+    }
+
+    /** largest expected count drawn by one inversion step, keeps (1-p)^n far from underflow */
+    private static final double MAX_INVERSION_MEAN = 200.0;
+
+    private MultinomialSampler() {
+    }
+
+    /**
+     * Sample a histogram from a probability vector.
+     *
+     * @param probabilities
+     *            non-negative weights (need not be normalized)
+     * @param shots
+     *            number of shots to distribute
+     * @param random
+     *            randomness source
+     * @param sink
+     *            receives each outcome with a non-zero count
+     *
+     * @throws IllegalStateException
+     *             if all weights are zero
+     */
+    public static void sample(double[] probabilities, int shots, RandomGenerator random, Sink sink) {
+        sample(i -> probabilities[(int) i], probabilities.length, shots, random, sink);
+    }
+
+    /**
+     * Sample a histogram from weights provided by an index function.
+     *
+     * @param weights
+     *            non-negative weight of each outcome (need not be normalized)
+     * @param size
+     *            number of outcomes
+     * @param shots
+     *            number of shots to distribute
+     * @param random
+     *            randomness source
+     * @param sink
+     *            receives each outcome with a non-zero count
+     *
+     * @throws IllegalStateException
+     *             if all weights are zero
+     */
+    public static void sample(LongToDoubleFunction weights, long size, int shots, RandomGenerator random, Sink sink) {
+        double total = 0.0;
+        for (long i = 0; i < size; i++) {
+            total += weights.applyAsDouble(i);
+        }
+        if (total == 0.0) {
+            throw new IllegalStateException("State vector has zero norm");
+        }
+
+        int remaining = shots;
+        double mass = total;
+        // each outcome is emitted once the next weighted outcome is seen, so rounding leftovers can go to the last one
+        long pendingOutcome = -1;
+        int pendingCount = 0;
+        for (long i = 0; i < size && remaining > 0; i++) {
+            double w = weights.applyAsDouble(i);
+            if (w <= 0.0)
+                continue;
+
+            int count = (w >= mass) ? remaining : binomial(remaining, w / mass, random);
+            mass -= w;
+            remaining -= count;
+
+            if (pendingCount > 0) {
+                sink.accept(pendingOutcome, pendingCount);
+            }
+            pendingOutcome = i;
+            pendingCount = count;
+        }
+
+        if (pendingCount + remaining > 0) {
+            sink.accept(pendingOutcome, pendingCount + remaining);
+        }
+    }
+
+    /**
+     * Draw from Binomial(n, p) exactly.
+     * <p>
+     * Uses CDF inversion, which costs O(n·p) per draw. Large means are split into independent sub-draws so that the
+     * starting term (1-p)^n stays representable.
+     * </p>
+     *
+     * @param n
+     *            number of trials (&ge; 0)
+     * @param p
+     *            success probability
+     * @param random
+     *            randomness source
+     *
+     * @return the number of successes
+     */
+    public static int binomial(int n, double p, RandomGenerator random) {
+        if (p <= 0.0 || n == 0)
+            return 0;
+        if (p >= 1.0)
+            return n;
+        if (p > 0.5)
+            return n - binomial(n, 1.0 - p, random);
+
+        int chunk = (int) Math.max(1, Math.min(n, MAX_INVERSION_MEAN / p));
+        int result = 0;
+        for (long done = 0; done < n; done += chunk) {
+            result += invert((int) Math.min(chunk, n - done), p, random);
+        }
+        return result;
+    }
+
+    private static int invert(int n, double p, RandomGenerator random) {
+        double ratio = p / (1.0 - p);
+        double pmf = Math.pow(1.0 - p, n);
+        double u = random.nextDouble();
+        int k = 0;
+        while (u >= pmf && k < n) {
+            u -= pmf;
+            pmf *= ratio * (n - k) / (k + 1);
+            k++;
+        }
+        return k;
+    }
+}
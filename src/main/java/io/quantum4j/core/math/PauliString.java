@@ -0,0 +1,128 @@
+package io.quantum4j.core.math;
+
+/**
+ * Immutable tensor product of single-qubit Pauli operators (I, X, Y, Z).
+ * <p>
+ * The operator is stored as two bit masks: qubit {@code q} carries X if only bit {@code q} of the X mask is set, Z if
+ * only the Z mask bit is set, and Y if both are set. Labels are read in qubit order, matching the outcome strings of
+ * {@link io.quantum4j.core.backend.Result}: the first character acts on qubit 0.
+ * </p>
+ */
+public final class PauliString {
+
+    private final long xMask;
+    private final long zMask;
+
+    private PauliString(long xMask, long zMask) {
+        this.xMask = xMask;
+        this.zMask = zMask;
+    }
+
+    /**
+     * Parse a Pauli label such as {@code "XIZY"}.
+     *
+     * @param label
+     *            one of I, X, Y, Z (case-insensitive) per qubit, qubit 0 first; at most 64 characters
+     *
+     * @return the Pauli string
+     *
+     * @throws IllegalArgumentException
+     *             if the label is empty, too long, or contains another character
+     */
+    public static PauliString of(String label) {
+        if (label == null || label.isEmpty() || label.length() > Long.SIZE) {
+            throw new IllegalArgumentException("Pauli label must have 1 to " + Long.SIZE + " characters");
+        }
+        long x = 0;
+        long z = 0;
+        for (int q = 0; q < label.length(); q++) {
+            long bit = 1L << q;
+            switch (Character.toUpperCase(label.charAt(q))) {
+            case 'I':
+                break;
+            case 'X':
+                x |= bit;
+                break;
+            case 'Y':
+                x |= bit;
+                z |= bit;
+                break;
+            case 'Z':
+                z |= bit;
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid Pauli label character: " + label.charAt(q));
+            }
+        }
+        return new PauliString(x, z);
+    }
+
+    /**
+     * Create a Pauli string from its bit masks.
+     *
+     * @param xMask
+     *            qubits carrying X or Y
+     * @param zMask
+     *            qubits carrying Z or Y
+     *
+     * @return the Pauli string
+     */
+    public static PauliString of(long xMask, long zMask) {
+        return new PauliString(xMask, zMask);
+    }
+
+    /**
+     * @return the qubits on which this operator flips bits (X or Y)
+     */
+    public long getXMask() {
+        return xMask;
+    }
+
+    /**
+     * @return the qubits on which this operator applies a phase (Z or Y)
+     */
+    public long getZMask() {
+        return zMask;
+    }
+
+    /**
+     * @return true if the operator only contains I and Z, i.e. is diagonal in the computational basis
+     */
+    public boolean isDiagonal() {
+        return xMask == 0;
+    }
+
+    /**
+     * @return the highest qubit acted on non-trivially, or -1 for the identity
+     */
+    public int maxQubit() {
+        return Long.SIZE - 1 - Long.numberOfLeadingZeros(xMask | zMask);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof PauliString))
+            return false;
+        PauliString other = (PauliString) o;
+        return xMask == other.xMask && zMask == other.zMask;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(xMask) * 31 + Long.hashCode(zMask);
+    }
+
+    @Override
+    public String toString() {
+        int n = Math.max(1, maxQubit() + 1);
+        StringBuilder sb = new StringBuilder(n);
+        for (int q = 0; q < n; q++) {
+            boolean x = ((xMask >>> q) & 1) != 0;
+            boolean z = ((zMask >>> q) & 1) != 0;
+            sb.append(x ? (z ? 'Y' : 'X') : (z ? 'Z' : 'I'));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,98 @@
+package io.quantum4j.core.math;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Real-weighted sum of {@link PauliString}s, e.g. a qubit Hamiltonian.
+ * <p>
+ * Built with a fluent API in the style of {@link io.quantum4j.core.circuit.QuantumCircuit}:
+ * {@code PauliSum.create().add(0.5, "ZZ").add(-0.2, "XI")}. Evaluate it with
+ * {@link StateVector#expectation(PauliSum)}.
+ * </p>
+ */
+public final class PauliSum {
+
+    private final List<PauliString> paulis = new ArrayList<>();
+    private final List<Double> coefficients = new ArrayList<>();
+
+    private PauliSum() {
+    }
+
+    /**
+     * Create an empty sum.
+     *
+     * @return a new PauliSum with no terms
+     */
+    public static PauliSum create() {
+        return new PauliSum();
+    }
+
+    /**
+     * Add a weighted term.
+     *
+     * @param coefficient
+     *            real weight of the term
+     * @param pauli
+     *            the Pauli string
+     *
+     * @return this sum for method chaining
+     */
+    public PauliSum add(double coefficient, PauliString pauli) {
+        paulis.add(pauli);
+        coefficients.add(coefficient);
+        return this;
+    }
+
+    /**
+     * Add a weighted term given by its label.
+     *
+     * @param coefficient
+     *            real weight of the term
+     * @param label
+     *            Pauli label, qubit 0 first (see {@link PauliString#of(String)})
+     *
+     * @return this sum for method chaining
+     */
+    public PauliSum add(double coefficient, String label) {
+        return add(coefficient, PauliString.of(label));
+    }
+
+    /**
+     * @return the number of terms
+     */
+    public int size() {
+        return paulis.size();
+    }
+
+    /**
+     * @param term
+     *            term index
+     *
+     * @return the Pauli string of the term
+     */
+    public PauliString getPauli(int term) {
+        return paulis.get(term);
+    }
+
+    /**
+     * @param term
+     *            term index
+     *
+     * @return the weight of the term
+     */
+    public double getCoefficient(int term) {
+        return coefficients.get(term);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int t = 0; t < paulis.size(); t++) {
+            if (t > 0)
+                sb.append(" + ");
+            sb.append(coefficients.get(t)).append('*').append(paulis.get(t));
+        }
+        return sb.toString();
+    }
+}
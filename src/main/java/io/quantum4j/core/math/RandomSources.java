@@ -0,0 +1,30 @@
+package io.quantum4j.core.math;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Random sources of the simulator states.
+ * <p>
+ * States draw from an unseeded {@link SplittableRandom} unless one is set, and a copy takes a source split off its
+ * original's. A state seeded by a backend therefore hands deterministic streams to all of its copies, and no two
+ * copies share (or contend on) a generator.
+ * </p>
+ */
+final class RandomSources {
+
+    private RandomSources() {
+    }
+
+    static RandomGenerator create() {
+        return new SplittableRandom();
+    }
+
+    /** An independent stream derived from {@code parent} (advances the parent). */
+    static RandomGenerator split(RandomGenerator parent) {
+        if (parent instanceof RandomGenerator.SplittableGenerator) {
+            return ((RandomGenerator.SplittableGenerator) parent).split();
+        }
+        return new SplittableRandom(parent.nextLong());
+    }
+}
@@ -0,0 +1,54 @@
+package io.quantum4j.core.math;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join task that accumulates several sums over a half-open index range.
+ * <p>
+ * Each block adds into its own accumulator array; the partial arrays are added together as the task tree joins.
+ * </p>
+ */
+final class RangeSumTask extends RecursiveTask<double[]> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Body executed for one contiguous block of the range.
+     */
+    @FunctionalInterface
+    interface Body {
+        void run(long from, long to, double[] sums);
+    }
+
+    private final Body body;
+    private final int width;
+    private final long from;
+    private final long to;
+    private final long grain;
+
+    RangeSumTask(Body body, int width, long from, long to, long grain) {
+        this.body = body;
+        this.width = width;
+        this.from = from;
+        this.to = to;
+        this.grain = grain;
+    }
+
+    @Override
+    protected double[] compute() {
+        if (to - from <= grain) {
+            double[] sums = new double[width];
+            body.run(from, to, sums);
+            return sums;
+        }
+        long mid = (from + to) >>> 1;
+        RangeSumTask right = new RangeSumTask(body, width, mid, to, grain);
+        right.fork();
+        double[] sums = new RangeSumTask(body, width, from, mid, grain).compute();
+        double[] other = right.join();
+        for (int i = 0; i < width; i++) {
+            sums[i] += other[i];
+        }
+        return sums;
+    }
+}
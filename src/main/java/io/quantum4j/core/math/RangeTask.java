@@ -0,0 +1,45 @@
+package io.quantum4j.core.math;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task that splits a half-open index range into independent blocks.
+ * <p>
+ * Gate kernels iterate over amplitude groups (pairs, quads, ...) that never overlap, so any partition of the group
+ * range can be processed concurrently without synchronization.
+ * </p>
+ */
+final class RangeTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Body executed for one contiguous block of the range.
+     */
+    @FunctionalInterface
+    interface Body {
+        void run(long from, long to);
+    }
+
+    private final Body body;
+    private final long from;
+    private final long to;
+    private final long grain;
+
+    RangeTask(Body body, long from, long to, long grain) {
+        this.body = body;
+        this.from = from;
+        this.to = to;
+        this.grain = grain;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= grain) {
+            body.run(from, to);
+            return;
+        }
+        long mid = (from + to) >>> 1;
+        invokeAll(new RangeTask(body, from, mid, grain), new RangeTask(body, mid, to, grain));
+    }
+}
@@ -0,0 +1,354 @@
+package io.quantum4j.core.math;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Stabilizer state of n qubits in the Aaronson–Gottesman tableau form.
+ * <p>
+ * The tableau has 2n generator rows: rows 0..n-1 are destabilizers, rows n..2n-1 stabilizers, and one extra scratch
+ * row is used for deterministic measurements. Each row is a Pauli string stored as bit-packed X and Z masks in
+ * {@code long[]} words plus a sign bit. Clifford gates update one or two bit columns of every row, and the row
+ * products needed by measurements (the CHP {@code rowsum}) combine whole words at a time, including the phase, which is
+ * accumulated with popcounts. Memory is O(n²) bits and a measurement costs O(n²/64) word operations.
+ * </p>
+ * <p>
+ * Gates follow the same qubit conventions as {@link StateVector} (qubit 0 is the least significant bit of an outcome
+ * index). Instances are not thread-safe.
+ * </p>
+ */
+public final class StabilizerTableau {
+
+    private final int numQubits;
+    private final int words;
+    private final long[][] x;
+    private final long[][] z;
+    private final boolean[] r;
+    private RandomGenerator random = RandomSources.create();
+
+    /**
+     * Create a tableau for |00...0⟩.
+     *
+     * @param numQubits
+     *            number of qubits (≥ 1)
+     *
+     * @throws IllegalArgumentException
+     *             if numQubits &lt; 1
+     */
+    public StabilizerTableau(int numQubits) {
+        if (numQubits < 1) {
+            throw new IllegalArgumentException("numQubits must be >= 1");
+        }
+        this.numQubits = numQubits;
+        this.words = (numQubits + 63) >>> 6;
+        int rows = 2 * numQubits + 1;
+        this.x = new long[rows][words];
+        this.z = new long[rows][words];
+        this.r = new boolean[rows];
+        for (int q = 0; q < numQubits; q++) {
+            x[q][q >>> 6] |= 1L << q; // destabilizer X_q
+            z[q + numQubits][q >>> 6] |= 1L << q; // stabilizer Z_q
+        }
+    }
+
+    private StabilizerTableau(StabilizerTableau other) {
+        this.numQubits = other.numQubits;
+        this.words = other.words;
+        this.x = new long[other.x.length][];
+        this.z = new long[other.z.length][];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = other.x[i].clone();
+            z[i] = other.z[i].clone();
+        }
+        this.r = other.r.clone();
+        this.random = RandomSources.split(other.random);
+    }
+
+    /**
+     * Get the number of qubits.
+     *
+     * @return the qubit count
+     */
+    public int getNumQubits() {
+        return numQubits;
+    }
+
+    /**
+     * Create an independent copy of this tableau (with its own random source).
+     *
+     * @return the copy
+     */
+    public StabilizerTableau copy() {
+        return new StabilizerTableau(this);
+    }
+
+    /**
+     * Replace the random source used for random measurement outcomes.
+     * <p>
+     * Copies made afterwards split their own source off this one, so seeding a state makes it and all of its copies
+     * reproducible.
+     * </p>
+     *
+     * @param random
+     *            the random source
+     */
+    public void setRandom(RandomGenerator random) {
+        if (random == null)
+            throw new IllegalArgumentException("random must not be null");
+        this.random = random;
+    }
+
+    // ----------------------------------------------------------------------
+    // Clifford gates
+    // ----------------------------------------------------------------------
+
+    /**
+     * Apply a Hadamard gate.
+     *
+     * @param a
+     *            target qubit
+     */
+    public void h(int a) {
+        checkQubit(a);
+        int w = a >>> 6;
+        long m = 1L << a;
+        for (int i = 0; i < 2 * numQubits; i++) {
+            long xi = x[i][w] & m;
+            long zi = z[i][w] & m;
+            r[i] ^= (xi & zi) != 0;
+            x[i][w] ^= xi ^ zi;
+            z[i][w] ^= xi ^ zi;
+        }
+    }
+
+    /**
+     * Apply a phase gate S = diag(1, i).
+     *
+     * @param a
+     *            target qubit
+     */
+    public void s(int a) {
+        checkQubit(a);
+        int w = a >>> 6;
+        long m = 1L << a;
+        for (int i = 0; i < 2 * numQubits; i++) {
+            long xi = x[i][w] & m;
+            r[i] ^= (xi & z[i][w]) != 0;
+            z[i][w] ^= xi;
+        }
+    }
+
+    /**
+     * Apply a Pauli X gate.
+     *
+     * @param a
+     *            target qubit
+     */
+    public void x(int a) {
+        flipSigns(a, false, true);
+    }
+
+    /**
+     * Apply a Pauli Y gate.
+     *
+     * @param a
+     *            target qubit
+     */
+    public void y(int a) {
+        flipSigns(a, true, true);
+    }
+
+    /**
+     * Apply a Pauli Z gate.
+     *
+     * @param a
+     *            target qubit
+     */
+    public void z(int a) {
+        flipSigns(a, true, false);
+    }
+
+    /** A Pauli gate negates the rows that anticommute with it: X with rows holding Z on a, Z with rows holding X. */
+    private void flipSigns(int a, boolean onX, boolean onZ) {
+        checkQubit(a);
+        int w = a >>> 6;
+        long m = 1L << a;
+        for (int i = 0; i < 2 * numQubits; i++) {
+            boolean xi = (x[i][w] & m) != 0;
+            boolean zi = (z[i][w] & m) != 0;
+            r[i] ^= (onX && xi) ^ (onZ && zi);
+        }
+    }
+
+    /**
+     * Apply a controlled-NOT gate.
+     *
+     * @param control
+     *            control qubit
+     * @param target
+     *            target qubit
+     *
+     * @throws IllegalArgumentException
+     *             if the qubits are out of range or equal
+     */
+    public void cx(int control, int target) {
+        checkPair(control, target);
+        int wa = control >>> 6;
+        int wb = target >>> 6;
+        long ma = 1L << control;
+        long mb = 1L << target;
+        for (int i = 0; i < 2 * numQubits; i++) {
+            boolean xa = (x[i][wa] & ma) != 0;
+            boolean za = (z[i][wa] & ma) != 0;
+            boolean xb = (x[i][wb] & mb) != 0;
+            boolean zb = (z[i][wb] & mb) != 0;
+            r[i] ^= xa && zb && (xb == za);
+            if (xa)
+                x[i][wb] ^= mb;
+            if (zb)
+                z[i][wa] ^= ma;
+        }
+    }
+
+    /**
+     * Apply a controlled-Z gate.
+     *
+     * @param a
+     *            first qubit
+     * @param b
+     *            second qubit
+     *
+     * @throws IllegalArgumentException
+     *             if the qubits are out of range or equal
+     */
+    public void cz(int a, int b) {
+        h(b);
+        cx(a, b);
+        h(b);
+    }
+
+    /**
+     * Swap two qubits.
+     *
+     * @param a
+     *            first qubit
+     * @param b
+     *            second qubit
+     *
+     * @throws IllegalArgumentException
+     *             if the qubits are out of range or equal
+     */
+    public void swap(int a, int b) {
+        checkPair(a, b);
+        int wa = a >>> 6;
+        int wb = b >>> 6;
+        long ma = 1L << a;
+        long mb = 1L << b;
+        for (int i = 0; i < 2 * numQubits; i++) {
+            swapBits(x[i], wa, ma, wb, mb);
+            swapBits(z[i], wa, ma, wb, mb);
+        }
+    }
+
+    private static void swapBits(long[] row, int wa, long ma, int wb, long mb) {
+        boolean ba = (row[wa] & ma) != 0;
+        boolean bb = (row[wb] & mb) != 0;
+        if (ba != bb) {
+            row[wa] ^= ma;
+            row[wb] ^= mb;
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Measurement
+    // ----------------------------------------------------------------------
+
+    /**
+     * Measure one qubit in the computational basis and collapse the state.
+     *
+     * @param a
+     *            qubit to measure
+     *
+     * @return the outcome, 0 or 1
+     */
+    public int measure(int a) {
+        checkQubit(a);
+        int n = numQubits;
+        int w = a >>> 6;
+        long m = 1L << a;
+
+        int p = -1;
+        for (int i = n; i < 2 * n; i++) {
+            if ((x[i][w] & m) != 0) {
+                p = i;
+                break;
+            }
+        }
+
+        if (p >= 0) {
+            // random outcome: a stabilizer anticommutes with Z_a
+            for (int i = 0; i < 2 * n; i++) {
+                if (i != p && (x[i][w] & m) != 0) {
+                    rowsum(i, p);
+                }
+            }
+            System.arraycopy(x[p], 0, x[p - n], 0, words);
+            System.arraycopy(z[p], 0, z[p - n], 0, words);
+            r[p - n] = r[p];
+            Arrays.fill(x[p], 0L);
+            Arrays.fill(z[p], 0L);
+            z[p][w] = m;
+            r[p] = random.nextBoolean();
+            return r[p] ? 1 : 0;
+        }
+
+        // deterministic outcome: Z_a is a product of stabilizers, accumulated in the scratch row
+        int scratch = 2 * n;
+        Arrays.fill(x[scratch], 0L);
+        Arrays.fill(z[scratch], 0L);
+        r[scratch] = false;
+        for (int i = 0; i < n; i++) {
+            if ((x[i][w] & m) != 0) {
+                rowsum(scratch, i + n);
+            }
+        }
+        return r[scratch] ? 1 : 0;
+    }
+
+    /**
+     * Replace row h by the product of rows i and h, tracking the sign.
+     * <p>
+     * Per qubit, multiplying Pauli (x1,z1) from row i onto (x2,z2) from row h contributes a power of i in {-1, 0, +1}
+     * (the CHP g function). The +1 and -1 positions of a whole word are computed as bit masks and counted with
+     * popcount.
+     * </p>
+     */
+    private void rowsum(int h, int i) {
+        long[] xh = x[h], zh = z[h], xi = x[i], zi = z[i];
+        int g = 0;
+        for (int k = 0; k < words; k++) {
+            long x1 = xi[k], z1 = zi[k], x2 = xh[k], z2 = zh[k];
+            long plus = (x1 & z1 & ~x2 & z2) | (x1 & ~z1 & x2 & z2) | (~x1 & z1 & x2 & ~z2);
+            long minus = (x1 & z1 & x2 & ~z2) | (x1 & ~z1 & ~x2 & z2) | (~x1 & z1 & x2 & z2);
+            g += Long.bitCount(plus) - Long.bitCount(minus);
+            xh[k] = x1 ^ x2;
+            zh[k] = z1 ^ z2;
+        }
+        int phase = ((r[h] ? 2 : 0) + (r[i] ? 2 : 0) + g) & 3;
+        r[h] = phase == 2;
+    }
+
+    private void checkQubit(int qubit) {
+        if (qubit < 0 || qubit >= numQubits) {
+            throw new IllegalArgumentException("Invalid qubit index: " + qubit);
+        }
+    }
+
+    private void checkPair(int a, int b) {
+        checkQubit(a);
+        checkQubit(b);
+        if (a == b) {
+            throw new IllegalArgumentException("Two-qubit gate requires distinct qubits.");
+        }
+    }
+}
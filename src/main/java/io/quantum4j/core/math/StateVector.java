@@ -1,44 +1,124 @@
 package io.quantum4j.core.math;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Random;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
 
 /**
  * Mutable representation of a quantum state vector.
  * <p>
- * \n * A state vector represents the amplitudes of all computational basis states for a system of n qubits. The
- * dimension is 2^n and amplitudes are stored as complex numbers. Initially, all states are in |00...0⟩.
+ * A state vector represents the amplitudes of all computational basis states for a system of n qubits. The dimension
+ * is 2^n and amplitudes are stored as primitive {@code re, im} doubles so that gate kernels run without allocating.
+ * {@link Complex} values only appear at the public accessor boundary. Initially, all states are in |00...0⟩.
+ * </p>
+ * <p>
+ * Amplitudes are indexed by {@code long}. Up to {@value #HEAP_QUBIT_LIMIT} qubits they are kept in an interleaved
+ * {@code double[]} on the heap; larger states (or any state created with {@link #offHeap(int)}) live in chunked direct
+ * memory, which lifts the 2^31 array limit and keeps the amplitudes out of garbage-collector scans.
+ * </p>
+ * <p>
+ * Kernels run serially by default. {@link #setParallelism(ForkJoinPool, int)} lets them split the amplitude groups of
+ * large states across a fork/join pool.
+ * </p>
+ * <p>
+ * Gate matrices passed to the {@code apply*} kernels use the same interleaved layout in row-major order: entry
+ * {@code (r, c)} of a d×d matrix is stored at {@code m[2 * (r * d + c)]} (real) and {@code m[2 * (r * d + c) + 1]}
+ * (imaginary).
  * </p>
  */
 public final class StateVector {
+
+    /** largest qubit count that {@link #StateVector(int)} keeps on the Java heap */
+    public static final int HEAP_QUBIT_LIMIT = 26;
+
+    /** largest qubit count addressable with {@code long} indices */
+    public static final int MAX_QUBITS = 62;
+
+    /** smallest number of amplitude groups handed to one fork/join task */
+    private static final long MIN_PARALLEL_GRAIN = 1L << 12;
+
     private final int numQubits;
-    private final Complex[] amplitudes;
-    private final Random random;
+    private final AmplitudeBuffer amplitudes;
+    private RandomGenerator random;
+
+    /** pool used by the gate kernels, or null for serial execution */
+    private ForkJoinPool pool;
+    /** minimum qubit count before kernels go parallel */
+    private int parallelThreshold = Integer.MAX_VALUE;
 
     /**
      * Create a new state vector with the specified number of qubits.
      * <p>
-     * The state is initialized to |00...0⟩ (all zeros).
+     * The state is initialized to |00...0⟩ (all zeros). States of more than {@value #HEAP_QUBIT_LIMIT} qubits are
+     * allocated off-heap.
      * </p>
      *
      * @param numQubits
      *            number of qubits (must be ≥ 1)
      *
      * @throws IllegalArgumentException
-     *             if numQubits ≤ 0
+     *             if numQubits ≤ 0 or numQubits &gt; {@value #MAX_QUBITS}
      */
     public StateVector(int numQubits) {
+        this(numQubits, numQubits > HEAP_QUBIT_LIMIT);
+    }
+
+    private StateVector(int numQubits, boolean offHeap) {
+        this(numQubits, allocate(numQubits, offHeap));
+        // start in |0...0⟩
+        amplitudes.set(0, 1.0, 0.0);
+    }
+
+    private StateVector(int numQubits, AmplitudeBuffer amplitudes) {
+        this.numQubits = numQubits;
+        this.amplitudes = amplitudes;
+        this.random = RandomSources.create();
+    }
+
+    private static AmplitudeBuffer allocate(int numQubits, boolean offHeap) {
         if (numQubits <= 0)
             throw new IllegalArgumentException("numQubits must be > 0");
-        this.numQubits = numQubits;
-        int dim = 1 << numQubits;
-        this.amplitudes = new Complex[dim];
-        this.random = new Random();
+        if (numQubits > MAX_QUBITS)
+            throw new IllegalArgumentException("numQubits must be <= " + MAX_QUBITS);
+        long dim = 1L << numQubits;
+        return offHeap ? new DirectAmplitudeBuffer(dim) : new HeapAmplitudeBuffer(dim);
+    }
 
-        // start in |0...0⟩
-        amplitudes[0] = Complex.ONE;
-        for (int i = 1; i < dim; i++)
-            amplitudes[i] = Complex.ZERO;
+    /**
+     * Create a state vector in |00...0⟩ whose amplitudes are kept on the Java heap.
+     *
+     * @param numQubits
+     *            number of qubits (1 to 29)
+     *
+     * @return a new heap-backed StateVector
+     *
+     * @throws IllegalArgumentException
+     *             if numQubits is out of range
+     */
+    public static StateVector onHeap(int numQubits) {
+        return new StateVector(numQubits, false);
+    }
+
+    /**
+     * Create a state vector in |00...0⟩ whose amplitudes are kept in direct (off-heap) memory.
+     * <p>
+     * The JVM limits direct memory with {@code -XX:MaxDirectMemorySize}; a 32-qubit state needs 64 GiB.
+     * </p>
+     *
+     * @param numQubits
+     *            number of qubits (1 to {@value #MAX_QUBITS})
+     *
+     * @return a new off-heap StateVector
+     *
+     * @throws IllegalArgumentException
+     *             if numQubits is out of range
+     */
+    public static StateVector offHeap(int numQubits) {
+        return new StateVector(numQubits, true);
     }
 
     /**
@@ -55,30 +135,854 @@ public final class StateVector {
      *
      * @return the state vector dimension
      */
-    public int dimension() {
-        return amplitudes.length;
+    public long dimension() {
+        return amplitudes.size();
     }
 
     /**
-     * Get the amplitude array (for direct manipulation by gates).
+     * Check whether the amplitudes are stored outside the Java heap.
      *
-     * @return the complex amplitude array
+     * @return true for off-heap storage
      */
-    public Complex[] getAmplitudes() {
-        return amplitudes;
+    public boolean isOffHeap() {
+        return amplitudes.isOffHeap();
+    }
+
+    /**
+     * Get the amplitude of a computational basis state.
+     *
+     * @param index
+     *            the basis state index (qubit 0 = LSB)
+     *
+     * @return the complex amplitude
+     */
+    public Complex getAmplitude(long index) {
+        return new Complex(amplitudes.re(index), amplitudes.im(index));
+    }
+
+    /**
+     * Set the amplitude of a computational basis state.
+     * <p>
+     * No renormalization is performed; callers are responsible for keeping the state normalized.
+     * </p>
+     *
+     * @param index
+     *            the basis state index (qubit 0 = LSB)
+     * @param value
+     *            the new amplitude
+     */
+    public void setAmplitude(long index, Complex value) {
+        amplitudes.set(index, value.getRe(), value.getIm());
+    }
+
+    /**
+     * Get the probability |amplitude|² of a computational basis state.
+     *
+     * @param index
+     *            the basis state index (qubit 0 = LSB)
+     *
+     * @return the unnormalized probability of the basis state
+     */
+    public double probability(long index) {
+        return amplitudes.norm(index);
+    }
+
+    /**
+     * Reset this state to |00...0⟩ in place, keeping its storage and parallelism settings.
+     */
+    public void reset() {
+        amplitudes.clear();
+        amplitudes.set(0, 1.0, 0.0);
+    }
+
+    /**
+     * Overwrite this state with the amplitudes of another state of the same size, reusing this state's storage.
+     * <p>
+     * This state keeps its own parallelism settings and random source.
+     * </p>
+     *
+     * @param other
+     *            the state to copy
+     *
+     * @throws IllegalArgumentException
+     *             if the qubit counts differ
+     */
+    public void copyFrom(StateVector other) {
+        if (other.numQubits != numQubits) {
+            throw new IllegalArgumentException(
+                    "Cannot copy a " + other.numQubits + "-qubit state into a " + numQubits + "-qubit state");
+        }
+        if (other != this) {
+            amplitudes.copyFrom(other.amplitudes);
+        }
     }
 
     /**
      * Create a deep copy of this state vector.
      *
-     * @return a new StateVector with the same amplitudes
+     * @return a new StateVector with the same amplitudes and storage kind
      */
     public StateVector copy() {
-        StateVector sv = new StateVector(this.numQubits);
-        System.arraycopy(this.amplitudes, 0, sv.amplitudes, 0, amplitudes.length);
+        StateVector sv = new StateVector(this.numQubits, amplitudes.newEmpty());
+        sv.amplitudes.copyFrom(this.amplitudes);
+        sv.copySettingsFrom(this);
         return sv;
     }
 
+    /** Take over the parallelism settings of {@code other} and a random source split off its own, as a copy does. */
+    void copySettingsFrom(StateVector other) {
+        this.pool = other.pool;
+        this.parallelThreshold = other.parallelThreshold;
+        this.random = RandomSources.split(other.random);
+    }
+
+    /**
+     * Replace the random source used for measurements and sampling.
+     * <p>
+     * Copies made afterwards split their own source off this one, so seeding a state makes it and all of its copies
+     * reproducible.
+     * </p>
+     *
+     * @param random
+     *            the random source
+     */
+    public void setRandom(RandomGenerator random) {
+        if (random == null)
+            throw new IllegalArgumentException("random must not be null");
+        this.random = random;
+    }
+
+    /**
+     * Configure multi-threaded gate application.
+     * <p>
+     * When the state has at least {@code minQubits} qubits, each kernel splits its independent amplitude groups into
+     * blocks and runs them on {@code pool}. Smaller states, or a {@code null} pool, stay serial. Copies inherit this
+     * setting.
+     * </p>
+     *
+     * @param pool
+     *            the fork/join pool to use, or null to run serially
+     * @param minQubits
+     *            smallest qubit count for which kernels run in parallel
+     */
+    public void setParallelism(ForkJoinPool pool, int minQubits) {
+        this.pool = pool;
+        this.parallelThreshold = minQubits;
+    }
+
+    // ----------------------------------------------------------------------
+    // Gate kernels
+    // ----------------------------------------------------------------------
+
+    /**
+     * Apply a 2×2 unitary to a single qubit in place.
+     *
+     * @param m
+     *            interleaved row-major 2×2 matrix (8 doubles)
+     * @param target
+     *            the target qubit index (0 = LSB)
+     *
+     * @throws IllegalArgumentException
+     *             if target is out of range
+     */
+    public void applySingleQubit(double[] m, int target) {
+        checkQubit(target);
+
+        AmplitudeBuffer a = amplitudes;
+        long pairs = a.size() >> 1;
+        long stride = 1L << target;
+
+        double m00r = m[0], m00i = m[1], m01r = m[2], m01i = m[3];
+        double m10r = m[4], m10i = m[5], m11r = m[6], m11i = m[7];
+
+        forEachGroup(pairs, (from, to) -> {
+            for (long k = from; k < to; k++) {
+                // i0 has the target bit clear, i1 is its partner with the target bit set
+                long i0 = insertZeroBit(k, target);
+                long i1 = i0 | stride;
+
+                double a0r = a.re(i0), a0i = a.im(i0);
+                double a1r = a.re(i1), a1i = a.im(i1);
+
+                a.set(i0, m00r * a0r - m00i * a0i + m01r * a1r - m01i * a1i,
+                        m00r * a0i + m00i * a0r + m01r * a1i + m01i * a1r);
+                a.set(i1, m10r * a0r - m10i * a0i + m11r * a1r - m11i * a1i,
+                        m10r * a0i + m10i * a0r + m11r * a1i + m11i * a1r);
+            }
+        });
+    }
+
+    /**
+     * Apply a 4×4 unitary to two qubits in place.
+     * <p>
+     * Local basis ordering is |00⟩, |01⟩, |10⟩, |11⟩ with {@code q0} as the least significant bit, i.e. local index
+     * {@code 1} means q0 = 1 and q1 = 0.
+     * </p>
+     *
+     * @param m
+     *            interleaved row-major 4×4 matrix (32 doubles)
+     * @param q0
+     *            the qubit mapped to the low bit of the local index
+     * @param q1
+     *            the qubit mapped to the high bit of the local index
+     *
+     * @throws IllegalArgumentException
+     *             if the qubits are out of range or equal
+     */
+    public void applyTwoQubit(double[] m, int q0, int q1) {
+        checkQubit(q0);
+        checkQubit(q1);
+        if (q0 == q1)
+            throw new IllegalArgumentException("Two-qubit gate requires distinct qubits.");
+
+        AmplitudeBuffer a = amplitudes;
+        long quads = a.size() >> 2;
+        int lo = Math.min(q0, q1);
+        int hi = Math.max(q0, q1);
+        long mask0 = 1L << q0;
+        long mask1 = 1L << q1;
+
+        forEachGroup(quads, (from, to) -> {
+            for (long k = from; k < to; k++) {
+                long i00 = insertZeroBit(insertZeroBit(k, lo), hi);
+                long i01 = i00 | mask0;
+                long i10 = i00 | mask1;
+                long i11 = i01 | mask1;
+
+                double a0r = a.re(i00), a0i = a.im(i00);
+                double a1r = a.re(i01), a1i = a.im(i01);
+                double a2r = a.re(i10), a2i = a.im(i10);
+                double a3r = a.re(i11), a3i = a.im(i11);
+
+                a.set(i00, rowRe(m, 0, a0r, a0i, a1r, a1i, a2r, a2i, a3r, a3i),
+                        rowIm(m, 0, a0r, a0i, a1r, a1i, a2r, a2i, a3r, a3i));
+                a.set(i01, rowRe(m, 8, a0r, a0i, a1r, a1i, a2r, a2i, a3r, a3i),
+                        rowIm(m, 8, a0r, a0i, a1r, a1i, a2r, a2i, a3r, a3i));
+                a.set(i10, rowRe(m, 16, a0r, a0i, a1r, a1i, a2r, a2i, a3r, a3i),
+                        rowIm(m, 16, a0r, a0i, a1r, a1i, a2r, a2i, a3r, a3i));
+                a.set(i11, rowRe(m, 24, a0r, a0i, a1r, a1i, a2r, a2i, a3r, a3i),
+                        rowIm(m, 24, a0r, a0i, a1r, a1i, a2r, a2i, a3r, a3i));
+            }
+        });
+    }
+
+    /** Real part of one row of a 4×4 interleaved matrix (starting at {@code e}) times the gathered amplitudes. */
+    private static double rowRe(double[] m, int e, double a0r, double a0i, double a1r, double a1i, double a2r,
+            double a2i, double a3r, double a3i) {
+        return m[e] * a0r - m[e + 1] * a0i + m[e + 2] * a1r - m[e + 3] * a1i + m[e + 4] * a2r - m[e + 5] * a2i
+                + m[e + 6] * a3r - m[e + 7] * a3i;
+    }
+
+    /** Imaginary part of one row of a 4×4 interleaved matrix (starting at {@code e}) times the gathered amplitudes. */
+    private static double rowIm(double[] m, int e, double a0r, double a0i, double a1r, double a1i, double a2r,
+            double a2i, double a3r, double a3i) {
+        return m[e] * a0i + m[e + 1] * a0r + m[e + 2] * a1i + m[e + 3] * a1r + m[e + 4] * a2i + m[e + 5] * a2r
+                + m[e + 6] * a3i + m[e + 7] * a3r;
+    }
+
+    /**
+     * Apply an 8×8 unitary to three qubits in place.
+     * <p>
+     * Local basis ordering follows the argument order, |q2 q1 q0⟩ with {@code q0} as the least significant bit. For
+     * each of the 2^(n-3) base indices the eight affected amplitudes are gathered, multiplied by the matrix, and
+     * scattered back, so no second state buffer is needed.
+     * </p>
+     *
+     * @param m
+     *            interleaved row-major 8×8 matrix (128 doubles)
+     * @param q0
+     *            the qubit mapped to the low bit of the local index
+     * @param q1
+     *            the qubit mapped to the middle bit of the local index
+     * @param q2
+     *            the qubit mapped to the high bit of the local index
+     *
+     * @throws IllegalArgumentException
+     *             if the qubits are out of range or not distinct
+     */
+    public void applyThreeQubit(double[] m, int q0, int q1, int q2) {
+        checkQubit(q0);
+        checkQubit(q1);
+        checkQubit(q2);
+        if (q0 == q1 || q0 == q2 || q1 == q2)
+            throw new IllegalArgumentException("Three-qubit gate requires distinct qubits.");
+
+        AmplitudeBuffer a = amplitudes;
+        long groups = a.size() >> 3;
+        int lo = Math.min(q0, Math.min(q1, q2));
+        int hi = Math.max(q0, Math.max(q1, q2));
+        int mid = q0 + q1 + q2 - lo - hi;
+        long[] offsets = { 0, 1L << q0, 1L << q1, (1L << q0) | (1L << q1), 1L << q2, (1L << q2) | (1L << q0),
+                (1L << q2) | (1L << q1), (1L << q2) | (1L << q1) | (1L << q0) };
+
+        forEachGroup(groups, (from, to) -> {
+            // scratch for one group, allocated once per task rather than per amplitude
+            long[] idx = new long[8];
+            double[] re = new double[8];
+            double[] im = new double[8];
+            for (long k = from; k < to; k++) {
+                long base = insertZeroBit(insertZeroBit(insertZeroBit(k, lo), mid), hi);
+                for (int c = 0; c < 8; c++) {
+                    long i = base | offsets[c];
+                    idx[c] = i;
+                    re[c] = a.re(i);
+                    im[c] = a.im(i);
+                }
+                for (int r = 0; r < 8; r++) {
+                    int e = r << 4;
+                    double sumR = 0.0;
+                    double sumI = 0.0;
+                    for (int c = 0; c < 8; c++, e += 2) {
+                        sumR += m[e] * re[c] - m[e + 1] * im[c];
+                        sumI += m[e] * im[c] + m[e + 1] * re[c];
+                    }
+                    a.set(idx[r], sumR, sumI);
+                }
+            }
+        });
+    }
+
+    /**
+     * Apply a dense 2^k×2^k unitary to k qubits in place.
+     * <p>
+     * Local basis ordering follows the argument order: {@code qubits[0]} is the least significant bit of the local
+     * index. For each group of 2^k affected amplitudes the kernel gathers them, multiplies by the matrix, and scatters
+     * the results back.
+     * </p>
+     *
+     * @param m
+     *            interleaved row-major matrix (2·4^k doubles)
+     * @param qubits
+     *            the distinct target qubits
+     *
+     * @throws IllegalArgumentException
+     *             if the matrix size does not match, or the qubits are out of range or repeated
+     */
+    public void applyMatrix(double[] m, int... qubits) {
+        int k = qubits.length;
+        int d = 1 << k;
+        if (k == 0 || m.length != 2 * d * d) {
+            throw new IllegalArgumentException("Matrix size does not match " + k + " qubits");
+        }
+        long[] offsets = localOffsets(qubits);
+        int[] sorted = qubits.clone();
+        Arrays.sort(sorted);
+
+        AmplitudeBuffer a = amplitudes;
+        forEachGroup(a.size() >> k, (from, to) -> {
+            double[] in = new double[2 * d];
+            for (long g = from; g < to; g++) {
+                long base = g;
+                for (int q : sorted) {
+                    base = insertZeroBit(base, q);
+                }
+                for (int c = 0; c < d; c++) {
+                    in[c << 1] = a.re(base | offsets[c]);
+                    in[(c << 1) + 1] = a.im(base | offsets[c]);
+                }
+                for (int r = 0; r < d; r++) {
+                    double sumR = 0.0;
+                    double sumI = 0.0;
+                    int e = (r * d) << 1;
+                    for (int c = 0; c < d; c++, e += 2) {
+                        double ar = in[c << 1];
+                        double ai = in[(c << 1) + 1];
+                        sumR += m[e] * ar - m[e + 1] * ai;
+                        sumI += m[e] * ai + m[e + 1] * ar;
+                    }
+                    a.set(base | offsets[r], sumR, sumI);
+                }
+            }
+        });
+    }
+
+    /**
+     * Apply a diagonal unitary to k qubits in place.
+     * <p>
+     * Only amplitudes whose diagonal entry differs from 1 are touched, so e.g. CZ rewrites a quarter of the state and
+     * Z, S and T half of it. Local basis ordering follows {@link #applyMatrix(double[], int...)}.
+     * </p>
+     *
+     * @param diagonal
+     *            interleaved diagonal entries (2·2^k doubles)
+     * @param qubits
+     *            the distinct target qubits
+     *
+     * @throws IllegalArgumentException
+     *             if the diagonal size does not match, or the qubits are out of range or repeated
+     */
+    public void applyDiagonal(double[] diagonal, int... qubits) {
+        int k = qubits.length;
+        int d = 1 << k;
+        if (k == 0 || diagonal.length != 2 * d) {
+            throw new IllegalArgumentException("Diagonal size does not match " + k + " qubits");
+        }
+        long[] offsets = localOffsets(qubits);
+        int[] active = new int[d];
+        int numActive = 0;
+        for (int j = 0; j < d; j++) {
+            if (diagonal[2 * j] != 1.0 || diagonal[2 * j + 1] != 0.0) {
+                active[numActive++] = j;
+            }
+        }
+        if (numActive == 0) {
+            return;
+        }
+        int[] sorted = qubits.clone();
+        Arrays.sort(sorted);
+        int count = numActive;
+
+        AmplitudeBuffer a = amplitudes;
+        forEachGroup(a.size() >> k, (from, to) -> {
+            for (long g = from; g < to; g++) {
+                long base = g;
+                for (int q : sorted) {
+                    base = insertZeroBit(base, q);
+                }
+                for (int t = 0; t < count; t++) {
+                    int j = active[t];
+                    long i = base | offsets[j];
+                    double pr = diagonal[2 * j];
+                    double pi = diagonal[2 * j + 1];
+                    double ar = a.re(i);
+                    double ai = a.im(i);
+                    a.set(i, pr * ar - pi * ai, pr * ai + pi * ar);
+                }
+            }
+        });
+    }
+
+    /**
+     * Apply a (phased) permutation unitary to k qubits in place.
+     * <p>
+     * Column {@code c} of the matrix has its only non-zero entry in row {@code permutation[c]}, with value
+     * {@code phases[c]} (or 1 when {@code phases} is null). Only the amplitudes that actually move or pick up a phase
+     * are read and written; for a pure permutation no arithmetic is done at all. Local basis ordering follows
+     * {@link #applyMatrix(double[], int...)}.
+     * </p>
+     *
+     * @param permutation
+     *            destination local index of each source local index (2^k entries)
+     * @param phases
+     *            interleaved phase of each column (2·2^k doubles), or null for a pure permutation
+     * @param qubits
+     *            the distinct target qubits
+     *
+     * @throws IllegalArgumentException
+     *             if the array sizes do not match, or the qubits are out of range or repeated
+     */
+    public void applyPermutation(int[] permutation, double[] phases, int... qubits) {
+        int k = qubits.length;
+        int d = 1 << k;
+        if (k == 0 || permutation.length != d || (phases != null && phases.length != 2 * d)) {
+            throw new IllegalArgumentException("Permutation size does not match " + k + " qubits");
+        }
+        long[] offsets = localOffsets(qubits);
+        int[] moved = new int[d];
+        int numMoved = 0;
+        for (int c = 0; c < d; c++) {
+            boolean phased = phases != null && (phases[2 * c] != 1.0 || phases[2 * c + 1] != 0.0);
+            if (permutation[c] != c || phased) {
+                moved[numMoved++] = c;
+            }
+        }
+        if (numMoved == 0) {
+            return;
+        }
+        int[] sorted = qubits.clone();
+        Arrays.sort(sorted);
+        int count = numMoved;
+
+        AmplitudeBuffer a = amplitudes;
+        forEachGroup(a.size() >> k, (from, to) -> {
+            double[] in = new double[2 * count];
+            for (long g = from; g < to; g++) {
+                long base = g;
+                for (int q : sorted) {
+                    base = insertZeroBit(base, q);
+                }
+                // the moved set is closed under the permutation, so gather first and scatter afterwards
+                for (int t = 0; t < count; t++) {
+                    long i = base | offsets[moved[t]];
+                    in[2 * t] = a.re(i);
+                    in[2 * t + 1] = a.im(i);
+                }
+                for (int t = 0; t < count; t++) {
+                    int c = moved[t];
+                    long dst = base | offsets[permutation[c]];
+                    if (phases == null) {
+                        a.set(dst, in[2 * t], in[2 * t + 1]);
+                    } else {
+                        double pr = phases[2 * c];
+                        double pi = phases[2 * c + 1];
+                        a.set(dst, pr * in[2 * t] - pi * in[2 * t + 1], pr * in[2 * t + 1] + pi * in[2 * t]);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Validate the qubits of a multi-qubit kernel and compute, for each local index, the global bit pattern it sets.
+     */
+    private long[] localOffsets(int[] qubits) {
+        long seen = 0;
+        for (int q : qubits) {
+            checkQubit(q);
+            if ((seen & (1L << q)) != 0) {
+                throw new IllegalArgumentException("Duplicate qubit index: " + q);
+            }
+            seen |= 1L << q;
+        }
+        long[] offsets = new long[1 << qubits.length];
+        for (int j = 0; j < offsets.length; j++) {
+            long off = 0;
+            for (int b = 0; b < qubits.length; b++) {
+                if (((j >> b) & 1) != 0) {
+                    off |= 1L << qubits[b];
+                }
+            }
+            offsets[j] = off;
+        }
+        return offsets;
+    }
+
+    /**
+     * Run {@code body} over the group range {@code [0, count)}, split across the pool when this state is large enough.
+     * Groups must touch disjoint amplitudes.
+     */
+    private void forEachGroup(long count, RangeTask.Body body) {
+        ForkJoinPool p = pool;
+        if (p == null || numQubits < parallelThreshold || p.getParallelism() < 2) {
+            body.run(0, count);
+            return;
+        }
+        // a few blocks per worker keeps the pool balanced without drowning it in tiny tasks
+        long grain = Math.max(MIN_PARALLEL_GRAIN, count / (4L * p.getParallelism()));
+        p.invoke(new RangeTask(body, 0, count, grain));
+    }
+
+    /**
+     * Accumulate {@code width} sums over {@code [0, count)}, in parallel under the same conditions as
+     * {@link #forEachGroup}.
+     */
+    private double[] sumOverGroups(long count, int width, RangeSumTask.Body body) {
+        ForkJoinPool p = pool;
+        if (p == null || numQubits < parallelThreshold || p.getParallelism() < 2) {
+            double[] sums = new double[width];
+            body.run(0, count, sums);
+            return sums;
+        }
+        long grain = Math.max(MIN_PARALLEL_GRAIN, count / (4L * p.getParallelism()));
+        return p.invoke(new RangeSumTask(body, width, 0, count, grain));
+    }
+
+    /** Insert a zero bit at position {@code bit}, shifting the higher bits of {@code k} up by one. */
+    private static long insertZeroBit(long k, int bit) {
+        long low = k & ((1L << bit) - 1);
+        return ((k >>> bit) << (bit + 1)) | low;
+    }
+
+    private void checkQubit(int qubit) {
+        if (qubit < 0 || qubit >= numQubits) {
+            throw new IllegalArgumentException("Invalid qubit index: " + qubit);
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Observables
+    // ----------------------------------------------------------------------
+
+    /**
+     * Compute the exact expectation value ⟨ψ|P|ψ⟩ of a Pauli string.
+     *
+     * @param pauli
+     *            the observable
+     *
+     * @return the expectation value (assumes a normalized state)
+     *
+     * @throws IllegalArgumentException
+     *             if the Pauli string acts on a qubit outside this state
+     */
+    public double expectation(PauliString pauli) {
+        return expectation(PauliSum.create().add(1.0, pauli));
+    }
+
+    /**
+     * Compute the exact expectation value of a weighted sum of Pauli strings.
+     * <p>
+     * Terms are grouped by the qubits they flip (their X mask): every term of a group pairs the same amplitudes, so one
+     * pass over the state evaluates the whole group. All diagonal (I/Z) terms share one pass over the probabilities;
+     * other groups only visit half of the indices, since the contributions of {@code i} and {@code i ^ x} are complex
+     * conjugates. No gates are applied and the state is not copied.
+     * </p>
+     *
+     * @param observable
+     *            the weighted Pauli sum
+     *
+     * @return the expectation value (assumes a normalized state)
+     *
+     * @throws IllegalArgumentException
+     *             if a term acts on a qubit outside this state
+     */
+    public double expectation(PauliSum observable) {
+        Map<Long, List<Integer>> groups = new LinkedHashMap<>();
+        for (int t = 0; t < observable.size(); t++) {
+            PauliString pauli = observable.getPauli(t);
+            if (pauli.maxQubit() >= numQubits) {
+                throw new IllegalArgumentException("Pauli string " + pauli + " acts outside " + numQubits + " qubits");
+            }
+            groups.computeIfAbsent(pauli.getXMask(), k -> new ArrayList<>()).add(t);
+        }
+
+        double total = 0.0;
+        for (Map.Entry<Long, List<Integer>> group : groups.entrySet()) {
+            List<Integer> terms = group.getValue();
+            int k = terms.size();
+            long[] zMasks = new long[k];
+            int[] yPhases = new int[k];
+            double[] weights = new double[k];
+            for (int j = 0; j < k; j++) {
+                PauliString pauli = observable.getPauli(terms.get(j));
+                zMasks[j] = pauli.getZMask();
+                yPhases[j] = Long.bitCount(pauli.getXMask() & pauli.getZMask()) & 3; // Y = iXZ
+                weights[j] = observable.getCoefficient(terms.get(j));
+            }
+
+            double[] sums = group.getKey() == 0 ? diagonalSums(zMasks) : flipSums(group.getKey(), zMasks, yPhases);
+            for (int j = 0; j < k; j++) {
+                total += weights[j] * sums[j];
+            }
+        }
+        return total;
+    }
+
+    /** Σ (-1)^|i & z| |a_i|² for each Z mask. */
+    private double[] diagonalSums(long[] zMasks) {
+        AmplitudeBuffer a = amplitudes;
+        int k = zMasks.length;
+        return sumOverGroups(a.size(), k, (from, to, sums) -> {
+            for (long i = from; i < to; i++) {
+                double p = a.norm(i);
+                if (p == 0.0)
+                    continue;
+                for (int j = 0; j < k; j++) {
+                    sums[j] += (Long.bitCount(i & zMasks[j]) & 1) == 0 ? p : -p;
+                }
+            }
+        });
+    }
+
+    /**
+     * Σ_i i^y (-1)^|i & z| conj(a_{i^x}) a_i for each term, summed as 2·Re over the indices whose highest X bit is 0.
+     */
+    private double[] flipSums(long xMask, long[] zMasks, int[] yPhases) {
+        AmplitudeBuffer a = amplitudes;
+        int k = zMasks.length;
+        int pivot = Long.SIZE - 1 - Long.numberOfLeadingZeros(xMask);
+        double[] sums = sumOverGroups(a.size() >> 1, k, (from, to, acc) -> {
+            for (long g = from; g < to; g++) {
+                long i = insertZeroBit(g, pivot);
+                long m = i ^ xMask;
+                double ri = a.re(i), ii = a.im(i);
+                double rm = a.re(m), im = a.im(m);
+                double cRe = rm * ri + im * ii; // conj(a_m) * a_i
+                double cIm = rm * ii - im * ri;
+                for (int j = 0; j < k; j++) {
+                    double v;
+                    switch (yPhases[j]) {
+                    case 0:
+                        v = cRe;
+                        break;
+                    case 1:
+                        v = -cIm;
+                        break;
+                    case 2:
+                        v = -cRe;
+                        break;
+                    default:
+                        v = cIm;
+                        break;
+                    }
+                    acc[j] += (Long.bitCount(i & zMasks[j]) & 1) == 0 ? v : -v;
+                }
+            }
+        });
+        for (int j = 0; j < k; j++) {
+            sums[j] *= 2.0;
+        }
+        return sums;
+    }
+
+    /**
+     * Compute H|ψ⟩ for a weighted Pauli sum H.
+     * <p>
+     * Each term is one pass that moves every amplitude to {@code i ^ x} with its sign and phase and adds it into the
+     * result. The result is generally not normalized; it is meant as the starting co-state of adjoint
+     * differentiation and for inner products.
+     * </p>
+     *
+     * @param observable
+     *            the weighted Pauli sum
+     *
+     * @return a new state holding H|ψ⟩, with the same storage kind and parallelism as this one
+     *
+     * @throws IllegalArgumentException
+     *             if a term acts on a qubit outside this state
+     */
+    public StateVector multiply(PauliSum observable) {
+        StateVector out = new StateVector(numQubits, amplitudes.newEmpty());
+        out.pool = pool;
+        out.parallelThreshold = parallelThreshold;
+
+        AmplitudeBuffer a = amplitudes;
+        AmplitudeBuffer o = out.amplitudes;
+        for (int t = 0; t < observable.size(); t++) {
+            PauliString pauli = observable.getPauli(t);
+            if (pauli.maxQubit() >= numQubits) {
+                throw new IllegalArgumentException("Pauli string " + pauli + " acts outside " + numQubits + " qubits");
+            }
+            long x = pauli.getXMask();
+            long z = pauli.getZMask();
+            int y = Long.bitCount(x & z) & 3;
+            double w = observable.getCoefficient(t);
+            // i -> i ^ x is a bijection, so blocks of i never write the same output entry
+            forEachGroup(a.size(), (from, to) -> {
+                for (long i = from; i < to; i++) {
+                    double s = (Long.bitCount(i & z) & 1) == 0 ? w : -w;
+                    double re = a.re(i) * s;
+                    double im = a.im(i) * s;
+                    long j = i ^ x;
+                    switch (y) {
+                    case 0:
+                        o.set(j, o.re(j) + re, o.im(j) + im);
+                        break;
+                    case 1:
+                        o.set(j, o.re(j) - im, o.im(j) + re);
+                        break;
+                    case 2:
+                        o.set(j, o.re(j) - re, o.im(j) - im);
+                        break;
+                    default:
+                        o.set(j, o.re(j) + im, o.im(j) - re);
+                        break;
+                    }
+                }
+            });
+        }
+        return out;
+    }
+
+    /**
+     * Compute the matrix element ⟨bra|P|ψ⟩ of a Pauli string between another state and this one.
+     *
+     * @param bra
+     *            the state on the left (same qubit count)
+     * @param pauli
+     *            the Pauli string
+     *
+     * @return the complex matrix element
+     *
+     * @throws IllegalArgumentException
+     *             if the qubit counts differ or the Pauli string acts outside this state
+     */
+    public Complex matrixElement(StateVector bra, PauliString pauli) {
+        if (bra.numQubits != numQubits) {
+            throw new IllegalArgumentException("States have different qubit counts");
+        }
+        if (pauli.maxQubit() >= numQubits) {
+            throw new IllegalArgumentException("Pauli string " + pauli + " acts outside " + numQubits + " qubits");
+        }
+        AmplitudeBuffer a = amplitudes;
+        AmplitudeBuffer b = bra.amplitudes;
+        long x = pauli.getXMask();
+        long z = pauli.getZMask();
+        int y = Long.bitCount(x & z) & 3;
+
+        double[] sums = sumOverGroups(a.size(), 2, (from, to, acc) -> {
+            double sumRe = 0.0;
+            double sumIm = 0.0;
+            for (long i = from; i < to; i++) {
+                long j = i ^ x;
+                double ar = a.re(i), ai = a.im(i);
+                double br = b.re(j), bi = b.im(j);
+                double re = br * ar + bi * ai; // conj(b_j) * a_i
+                double im = br * ai - bi * ar;
+                if ((Long.bitCount(i & z) & 1) != 0) {
+                    re = -re;
+                    im = -im;
+                }
+                sumRe += re;
+                sumIm += im;
+            }
+            acc[0] += sumRe;
+            acc[1] += sumIm;
+        });
+
+        // multiply by i^y
+        switch (y) {
+        case 0:
+            return new Complex(sums[0], sums[1]);
+        case 1:
+            return new Complex(-sums[1], sums[0]);
+        case 2:
+            return new Complex(-sums[0], -sums[1]);
+        default:
+            return new Complex(sums[1], -sums[0]);
+        }
+    }
+
+    /**
+     * Compute the reduced density matrix of a few qubits, tracing out all others.
+     * <p>
+     * One pass over the state accumulates ρ[a, b] = Σ ψ(rest, a)·conj(ψ(rest, b)) for every pair of local indices.
+     * Local basis ordering follows {@link #applyMatrix(double[], int...)}.
+     * </p>
+     *
+     * @param qubits
+     *            the distinct qubits to keep
+     *
+     * @return the 2^k×2^k reduced density matrix, interleaved row-major (2·4^k doubles)
+     *
+     * @throws IllegalArgumentException
+     *             if the qubits are out of range or repeated
+     */
+    public double[] reducedDensityMatrix(int... qubits) {
+        int k = qubits.length;
+        int d = 1 << k;
+        if (k == 0) {
+            throw new IllegalArgumentException("At least one qubit is required");
+        }
+        long[] offsets = localOffsets(qubits);
+        int[] sorted = qubits.clone();
+        Arrays.sort(sorted);
+
+        AmplitudeBuffer a = amplitudes;
+        return sumOverGroups(a.size() >> k, 2 * d * d, (from, to, acc) -> {
+            for (long g = from; g < to; g++) {
+                long base = g;
+                for (int q : sorted) {
+                    base = insertZeroBit(base, q);
+                }
+                for (int r = 0; r < d; r++) {
+                    double xr = a.re(base | offsets[r]), xi = a.im(base | offsets[r]);
+                    if (xr == 0.0 && xi == 0.0)
+                        continue;
+                    for (int c = 0; c < d; c++) {
+                        double yr = a.re(base | offsets[c]), yi = a.im(base | offsets[c]);
+                        int e = 2 * (r * d + c);
+                        acc[e] += xr * yr + xi * yi;
+                        acc[e + 1] += xi * yr - xr * yi;
+                    }
+                }
+            }
+        });
+    }
+
+    // ----------------------------------------------------------------------
+    // Measurement
+    // ----------------------------------------------------------------------
+
     /**
      * Measure all qubits in the computational basis.
      * <p>
@@ -92,46 +996,114 @@ public final class StateVector {
      *             if the state vector has zero norm
      */
     public String measureAll() {
-        double[] probs = new double[amplitudes.length];
-        double sum = 0.0;
-        for (int i = 0; i < amplitudes.length; i++) {
-            probs[i] = amplitudes[i].absSquared();
-            sum += probs[i];
-        }
-        // normalize
-        if (sum == 0.0) {
-            throw new IllegalStateException("State vector has zero norm");
-        }
-        for (int i = 0; i < probs.length; i++) {
-            probs[i] /= sum;
-        }
-
-        double r = random.nextDouble();
-        double cumulative = 0.0;
-        int chosen = 0;
-        for (; chosen < probs.length; chosen++) {
-            cumulative += probs[chosen];
-            if (r < cumulative)
-                break;
-        }
+        long[] chosen = new long[1];
+        sampleCounts(1, (outcome, count) -> chosen[0] = outcome);
 
         // collapse
-        for (int i = 0; i < amplitudes.length; i++) {
-            amplitudes[i] = (i == chosen) ? Complex.ONE : Complex.ZERO;
-        }
+        amplitudes.clear();
+        amplitudes.set(chosen[0], 1.0, 0.0);
+
+        return indexToBitString(chosen[0], numQubits);
+    }
 
-        return indexToBitString(chosen, numQubits);
+    /**
+     * Sample a measurement histogram of all qubits without collapsing the state.
+     * <p>
+     * The whole histogram is drawn in one pass over the amplitudes with {@link MultinomialSampler}, so the cost is
+     * O(2^n + shots) regardless of how many shots are requested.
+     * </p>
+     *
+     * @param shots
+     *            number of shots to draw
+     * @param sink
+     *            receives each observed basis-state index with its count, in ascending index order
+     *
+     * @throws IllegalStateException
+     *             if the state vector has zero norm
+     */
+    public void sampleCounts(int shots, MultinomialSampler.Sink sink) {
+        MultinomialSampler.sample(amplitudes::norm, amplitudes.size(), shots, random, sink);
     }
 
-    private static String indexToBitString(int index, int numQubits) {
+    private static String indexToBitString(long index, int numQubits) {
         StringBuilder sb = new StringBuilder(numQubits);
         for (int q = 0; q < numQubits; q++) {
-            int bit = (index >> q) & 1; // extract qubit q
+            long bit = (index >>> q) & 1; // extract qubit q
             sb.append(bit);
         }
         return sb.toString();
     }
 
+    /**
+     * Get the probability of measuring 1 on one qubit, without collapsing the state.
+     *
+     * @param qubit
+     *            the qubit index
+     *
+     * @return P(qubit = 1), normalized by the squared norm of the state
+     *
+     * @throws IllegalArgumentException
+     *             if qubit index is out of range
+     */
+    public double probabilityOfOne(int qubit) {
+        checkQubit(qubit);
+        AmplitudeBuffer a = amplitudes;
+        long mask = 1L << qubit;
+        double[] sums = sumOverGroups(a.size(), 2, (from, to, acc) -> {
+            double p0 = 0.0;
+            double p1 = 0.0;
+            for (long i = from; i < to; i++) {
+                if ((i & mask) == 0)
+                    p0 += a.norm(i);
+                else
+                    p1 += a.norm(i);
+            }
+            acc[0] += p0;
+            acc[1] += p1;
+        });
+        double total = sums[0] + sums[1];
+        if (total == 0.0) {
+            throw new IllegalStateException("State has zero norm before measurement");
+        }
+        return sums[1] / total;
+    }
+
+    /**
+     * Project one qubit onto a given outcome and renormalize, as a measurement with a known result would.
+     *
+     * @param qubit
+     *            the qubit index
+     * @param outcome
+     *            the outcome to keep, 0 or 1
+     * @param probability
+     *            the probability of that outcome (e.g. from {@link #probabilityOfOne(int)}); must be &gt; 0
+     *
+     * @throws IllegalArgumentException
+     *             if the qubit is out of range, the outcome is not 0 or 1, or the probability is not positive
+     */
+    public void collapse(int qubit, int outcome, double probability) {
+        checkQubit(qubit);
+        if (outcome != 0 && outcome != 1) {
+            throw new IllegalArgumentException("outcome must be 0 or 1");
+        }
+        if (!(probability > 0.0)) {
+            throw new IllegalArgumentException("Cannot collapse onto an outcome of probability " + probability);
+        }
+        AmplitudeBuffer a = amplitudes;
+        long mask = 1L << qubit;
+        long keep = (outcome == 0) ? 0 : mask;
+        double norm = 1.0 / Math.sqrt(probability);
+        forEachGroup(a.size(), (from, to) -> {
+            for (long i = from; i < to; i++) {
+                if ((i & mask) == keep) {
+                    a.scale(i, norm);
+                } else {
+                    a.set(i, 0.0, 0.0);
+                }
+            }
+        });
+    }
+
     /**
      * Measure a single qubit in the computational basis.
      * <p>
@@ -152,15 +1124,15 @@ public final class StateVector {
             throw new IllegalArgumentException("Invalid qubit index: " + qubit);
         }
 
-        Complex[] amps = this.amplitudes;
-        int dim = amps.length;
-        int mask = 1 << qubit;
+        AmplitudeBuffer a = this.amplitudes;
+        long dim = a.size();
+        long mask = 1L << qubit;
 
         // 1) Compute probabilities for this qubit being 0 or 1
         double p0 = 0.0;
         double p1 = 0.0;
-        for (int i = 0; i < dim; i++) {
-            double prob = amps[i].absSquared();
+        for (long i = 0; i < dim; i++) {
+            double prob = a.norm(i);
             if ((i & mask) == 0) {
                 p0 += prob;
             } else {
@@ -189,15 +1161,15 @@ public final class StateVector {
             }
         }
 
-        double norm = 1.0 / Math.sqrt(pRes);
+        double norm = 1.0 / Math.sqrt(pRes * total);
 
         // 3) Collapse + renormalize
-        for (int i = 0; i < dim; i++) {
-            boolean bitIs1 = (i & mask) != 0;
-            if ((result == 0 && !bitIs1) || (result == 1 && bitIs1)) {
-                amps[i] = amps[i].mul(norm);
+        long keep = (result == 0) ? 0 : mask;
+        for (long i = 0; i < dim; i++) {
+            if ((i & mask) == keep) {
+                a.scale(i, norm);
             } else {
-                amps[i] = Complex.ZERO;
+                a.set(i, 0.0, 0.0);
             }
         }
 
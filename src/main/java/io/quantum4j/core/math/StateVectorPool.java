@@ -0,0 +1,155 @@
+package io.quantum4j.core.math;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recycles state vectors so repeated simulations do not allocate (and zero) a fresh 2^n buffer each time.
+ * <p>
+ * {@link #acquire(int)} hands out a |00...0⟩ state and {@link #acquireCopy(StateVector)} a copy of another state,
+ * both reusing a released state of the same qubit count when one is available; {@link #release(StateVector)} returns a
+ * state for reuse. Reusing costs one O(2^n) reset or copy pass instead of an allocation, a zero fill and, for copies,
+ * the copy pass. Released states are kept while their total size stays within the byte budget; beyond it they are
+ * left to the garbage collector.
+ * </p>
+ * <p>
+ * Thread-safe. A released state must not be used again by the caller.
+ * </p>
+ */
+public final class StateVectorPool {
+
+    /** default byte budget for retained states: 256 MiB, e.g. four 22-qubit states */
+    public static final long DEFAULT_MAX_RETAINED_BYTES = 256L << 20;
+
+    private final long maxRetainedBytes;
+    // guarded by this
+    private final List<ArrayDeque<StateVector>> free = new ArrayList<>(StateVector.MAX_QUBITS + 1);
+    private long retainedBytes;
+
+    /**
+     * Create a pool with the {@linkplain #DEFAULT_MAX_RETAINED_BYTES default} byte budget.
+     */
+    public StateVectorPool() {
+        this(DEFAULT_MAX_RETAINED_BYTES);
+    }
+
+    /**
+     * Create a pool.
+     *
+     * @param maxRetainedBytes
+     *            upper bound on the amplitude storage kept by released states (0 disables pooling)
+     *
+     * @throws IllegalArgumentException
+     *             if maxRetainedBytes &lt; 0
+     */
+    public StateVectorPool(long maxRetainedBytes) {
+        if (maxRetainedBytes < 0) {
+            throw new IllegalArgumentException("maxRetainedBytes must be >= 0");
+        }
+        this.maxRetainedBytes = maxRetainedBytes;
+        for (int n = 0; n <= StateVector.MAX_QUBITS; n++) {
+            free.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Get a state in |00...0⟩.
+     * <p>
+     * A reused state keeps the parallelism settings and random source it had when it was released; callers that care
+     * should set them.
+     * </p>
+     *
+     * @param numQubits
+     *            number of qubits
+     *
+     * @return a state of {@code numQubits} qubits in |00...0⟩
+     *
+     * @throws IllegalArgumentException
+     *             if numQubits is out of range
+     */
+    public StateVector acquire(int numQubits) {
+        StateVector state = poll(numQubits);
+        if (state == null) {
+            return new StateVector(numQubits);
+        }
+        state.reset();
+        return state;
+    }
+
+    /**
+     * Get a copy of a state, with the same result as {@link StateVector#copy()}.
+     *
+     * @param source
+     *            the state to copy
+     *
+     * @return an independent state with the amplitudes, parallelism settings and a split random source of
+     *         {@code source}
+     */
+    public StateVector acquireCopy(StateVector source) {
+        StateVector state = poll(source.getNumQubits());
+        if (state == null) {
+            return source.copy();
+        }
+        state.copyFrom(source);
+        state.copySettingsFrom(source);
+        return state;
+    }
+
+    /**
+     * Return a state for reuse. Releasing the same state twice has no further effect.
+     *
+     * @param state
+     *            a state the caller no longer uses
+     */
+    public void release(StateVector state) {
+        long bytes = bytes(state);
+        synchronized (this) {
+            ArrayDeque<StateVector> stack = free.get(state.getNumQubits());
+            if (retainedBytes + bytes > maxRetainedBytes) {
+                return;
+            }
+            for (StateVector s : stack) {
+                if (s == state) {
+                    return;
+                }
+            }
+            stack.push(state);
+            retainedBytes += bytes;
+        }
+    }
+
+    /**
+     * @return the amplitude storage currently held by released states, in bytes
+     */
+    public synchronized long getRetainedBytes() {
+        return retainedBytes;
+    }
+
+    /**
+     * Drop all released states.
+     */
+    public synchronized void clear() {
+        for (ArrayDeque<StateVector> stack : free) {
+            stack.clear();
+        }
+        retainedBytes = 0;
+    }
+
+    private StateVector poll(int numQubits) {
+        if (numQubits < 1 || numQubits > StateVector.MAX_QUBITS) {
+            throw new IllegalArgumentException("numQubits must be between 1 and " + StateVector.MAX_QUBITS);
+        }
+        synchronized (this) {
+            StateVector state = free.get(numQubits).poll();
+            if (state != null) {
+                retainedBytes -= bytes(state);
+            }
+            return state;
+        }
+    }
+
+    private static long bytes(StateVector state) {
+        return 16L * state.dimension();
+    }
+}
@@ -1,4 +1,5 @@
 /**
- * Low-level mathematical primitives used by the simulator: complex numbers and state vector representation.
+ * Low-level mathematical primitives used by the simulator: complex numbers, state vector, density matrix and
+ * matrix product state representations, and Pauli observables.
  */
 package io.quantum4j.core.math;
@@ -0,0 +1,194 @@
+package io.quantum4j.core.noise;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Completely positive, trace-preserving quantum channel in Kraus form, ρ ↦ Σ K·ρ·K†.
+ * <p>
+ * Each Kraus operator is a 2^k×2^k matrix on k qubits in the interleaved row-major layout used by the simulator kernels
+ * ({@code re, im} pairs, first qubit = least significant bit of the local index). The factory methods build the common
+ * single-qubit error channels; {@link #of(int, double[]...)} accepts any operator set that satisfies Σ K†K = I.
+ * Instances are immutable.
+ * </p>
+ */
+public final class KrausChannel {
+
+    private static final double COMPLETENESS_TOLERANCE = 1e-9;
+
+    private final int numQubits;
+    private final double[][] operators;
+
+    private KrausChannel(int numQubits, double[][] operators) {
+        this.numQubits = numQubits;
+        this.operators = operators;
+    }
+
+    /**
+     * Create a channel from explicit Kraus operators. Operators that are exactly zero are dropped.
+     *
+     * @param numQubits
+     *            number of qubits the channel acts on (1 or 2)
+     * @param operators
+     *            the Kraus operators, each with 2·4^k doubles (copied)
+     *
+     * @return the channel
+     *
+     * @throws IllegalArgumentException
+     *             if the qubit count is out of range, an operator has the wrong size, or Σ K†K ≠ I
+     */
+    public static KrausChannel of(int numQubits, double[]... operators) {
+        if (numQubits < 1 || numQubits > 2) {
+            throw new IllegalArgumentException("Kraus channels act on 1 or 2 qubits");
+        }
+        int d = 1 << numQubits;
+        List<double[]> kept = new ArrayList<>();
+        for (double[] k : operators) {
+            if (k.length != 2 * d * d) {
+                throw new IllegalArgumentException("Kraus operator on " + numQubits + " qubits needs " + (2 * d * d)
+                        + " doubles, got " + k.length);
+            }
+            for (double v : k) {
+                if (v != 0.0) {
+                    kept.add(k.clone());
+                    break;
+                }
+            }
+        }
+        if (kept.isEmpty()) {
+            throw new IllegalArgumentException("Kraus channel needs at least one non-zero operator");
+        }
+
+        // sum of K†K must be the identity
+        for (int r = 0; r < d; r++) {
+            for (int c = 0; c < d; c++) {
+                double re = 0, im = 0;
+                for (double[] k : kept) {
+                    for (int i = 0; i < d; i++) {
+                        // conj(K[i, r]) * K[i, c]
+                        double ar = k[2 * (i * d + r)], ai = k[2 * (i * d + r) + 1];
+                        double br = k[2 * (i * d + c)], bi = k[2 * (i * d + c) + 1];
+                        re += ar * br + ai * bi;
+                        im += ar * bi - ai * br;
+                    }
+                }
+                double expected = r == c ? 1.0 : 0.0;
+                if (Math.abs(re - expected) > COMPLETENESS_TOLERANCE || Math.abs(im) > COMPLETENESS_TOLERANCE) {
+                    throw new IllegalArgumentException("Kraus operators are not trace preserving");
+                }
+            }
+        }
+        return new KrausChannel(numQubits, kept.toArray(new double[0][]));
+    }
+
+    /**
+     * Single-qubit depolarizing channel ρ ↦ (1 − p)·ρ + p·I/2.
+     *
+     * @param p
+     *            depolarizing probability in [0, 1]
+     *
+     * @return the channel
+     */
+    public static KrausChannel depolarizing(double p) {
+        checkProbability(p, "p");
+        double a = Math.sqrt(1 - 3 * p / 4);
+        double b = Math.sqrt(p / 4);
+        return new KrausChannel(1, new double[][] {
+                { a, 0, 0, 0, 0, 0, a, 0 },
+                { 0, 0, b, 0, b, 0, 0, 0 },
+                { 0, 0, 0, -b, 0, b, 0, 0 },
+                { b, 0, 0, 0, 0, 0, -b, 0 } });
+    }
+
+    /**
+     * Single-qubit amplitude damping (energy relaxation |1⟩ → |0⟩).
+     *
+     * @param gamma
+     *            decay probability in [0, 1]
+     *
+     * @return the channel
+     */
+    public static KrausChannel amplitudeDamping(double gamma) {
+        checkProbability(gamma, "gamma");
+        return new KrausChannel(1, new double[][] {
+                { 1, 0, 0, 0, 0, 0, Math.sqrt(1 - gamma), 0 },
+                { 0, 0, Math.sqrt(gamma), 0, 0, 0, 0, 0 } });
+    }
+
+    /**
+     * Single-qubit phase damping (dephasing without energy loss).
+     *
+     * @param lambda
+     *            damping probability in [0, 1]
+     *
+     * @return the channel
+     */
+    public static KrausChannel phaseDamping(double lambda) {
+        checkProbability(lambda, "lambda");
+        return new KrausChannel(1, new double[][] {
+                { 1, 0, 0, 0, 0, 0, Math.sqrt(1 - lambda), 0 },
+                { 0, 0, 0, 0, 0, 0, Math.sqrt(lambda), 0 } });
+    }
+
+    /**
+     * Single-qubit bit flip: X with probability p.
+     *
+     * @param p
+     *            flip probability in [0, 1]
+     *
+     * @return the channel
+     */
+    public static KrausChannel bitFlip(double p) {
+        checkProbability(p, "p");
+        double a = Math.sqrt(1 - p), b = Math.sqrt(p);
+        return new KrausChannel(1, new double[][] {
+                { a, 0, 0, 0, 0, 0, a, 0 },
+                { 0, 0, b, 0, b, 0, 0, 0 } });
+    }
+
+    /**
+     * Single-qubit phase flip: Z with probability p.
+     *
+     * @param p
+     *            flip probability in [0, 1]
+     *
+     * @return the channel
+     */
+    public static KrausChannel phaseFlip(double p) {
+        checkProbability(p, "p");
+        double a = Math.sqrt(1 - p), b = Math.sqrt(p);
+        return new KrausChannel(1, new double[][] {
+                { a, 0, 0, 0, 0, 0, a, 0 },
+                { b, 0, 0, 0, 0, 0, -b, 0 } });
+    }
+
+    /**
+     * @return the number of qubits the channel acts on
+     */
+    public int getNumQubits() {
+        return numQubits;
+    }
+
+    /**
+     * @return the number of Kraus operators
+     */
+    public int size() {
+        return operators.length;
+    }
+
+    /**
+     * @param i
+     *            operator index
+     *
+     * @return a copy of the i-th Kraus operator
+     */
+    public double[] getOperator(int i) {
+        return operators[i].clone();
+    }
+
+    static void checkProbability(double p, String name) {
+        if (!(p >= 0.0 && p <= 1.0)) {
+            throw new IllegalArgumentException(name + " must be in [0, 1]");
+        }
+    }
+}
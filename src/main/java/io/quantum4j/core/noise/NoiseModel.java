@@ -0,0 +1,125 @@
+package io.quantum4j.core.noise;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Noise attached to gate types and to readout.
+ * <p>
+ * Gate errors are keyed by gate name ({@link io.quantum4j.core.gates.Gate#name()}, e.g. {@code "h"} or {@code "cx"})
+ * and are applied right after every gate of that type. A single-qubit channel attached to a multi-qubit gate is applied
+ * to each of the gate's qubits; a channel with as many qubits as the gate acts on all of them jointly, in the gate's
+ * qubit order. Several channels for one gate type are applied in the order they were added.
+ * </p>
+ * <p>
+ * Readout error flips a measured bit after the measurement: 0 is read as 1 with probability {@code p0to1}, and 1 as 0
+ * with probability {@code p1to0}. The quantum state is not affected.
+ * </p>
+ * <p>
+ * Instances are immutable; the {@code with*} methods return modified copies.
+ * </p>
+ */
+public final class NoiseModel {
+
+    private final Map<String, List<KrausChannel>> gateErrors;
+    private final double readout0to1;
+    private final double readout1to0;
+
+    private NoiseModel(Map<String, List<KrausChannel>> gateErrors, double readout0to1, double readout1to0) {
+        this.gateErrors = gateErrors;
+        this.readout0to1 = readout0to1;
+        this.readout1to0 = readout1to0;
+    }
+
+    /**
+     * Create a noise model without any errors.
+     *
+     * @return an empty noise model
+     */
+    public static NoiseModel create() {
+        return new NoiseModel(Collections.emptyMap(), 0.0, 0.0);
+    }
+
+    /**
+     * Return a copy of this model with one more channel after every gate of a given type.
+     *
+     * @param gateName
+     *            gate name as reported by {@code Gate.name()}
+     * @param channel
+     *            the error channel
+     *
+     * @return new NoiseModel with the channel added
+     */
+    public NoiseModel withGateError(String gateName, KrausChannel channel) {
+        if (gateName == null || channel == null) {
+            throw new IllegalArgumentException("gateName and channel must not be null");
+        }
+        Map<String, List<KrausChannel>> errors = new HashMap<>(gateErrors);
+        List<KrausChannel> channels = new ArrayList<>(errors.getOrDefault(gateName, Collections.emptyList()));
+        channels.add(channel);
+        errors.put(gateName, Collections.unmodifiableList(channels));
+        return new NoiseModel(Collections.unmodifiableMap(errors), readout0to1, readout1to0);
+    }
+
+    /**
+     * Return a copy of this model with the given readout error on every measured qubit.
+     *
+     * @param p0to1
+     *            probability of reading 1 when the qubit collapsed to 0
+     * @param p1to0
+     *            probability of reading 0 when the qubit collapsed to 1
+     *
+     * @return new NoiseModel with the readout error replaced
+     *
+     * @throws IllegalArgumentException
+     *             if a probability is outside [0, 1]
+     */
+    public NoiseModel withReadoutError(double p0to1, double p1to0) {
+        KrausChannel.checkProbability(p0to1, "p0to1");
+        KrausChannel.checkProbability(p1to0, "p1to0");
+        return new NoiseModel(gateErrors, p0to1, p1to0);
+    }
+
+    /**
+     * Get the channels applied after a gate type.
+     *
+     * @param gateName
+     *            gate name
+     *
+     * @return the channels in application order (empty if the gate is noiseless)
+     */
+    public List<KrausChannel> getGateErrors(String gateName) {
+        return gateErrors.getOrDefault(gateName, Collections.emptyList());
+    }
+
+    /**
+     * @return the probability of reading 1 when the qubit collapsed to 0
+     */
+    public double getReadoutError0to1() {
+        return readout0to1;
+    }
+
+    /**
+     * @return the probability of reading 0 when the qubit collapsed to 1
+     */
+    public double getReadoutError1to0() {
+        return readout1to0;
+    }
+
+    /**
+     * @return true if any readout error is configured
+     */
+    public boolean hasReadoutError() {
+        return readout0to1 > 0.0 || readout1to0 > 0.0;
+    }
+
+    /**
+     * @return true if this model has neither gate nor readout errors
+     */
+    public boolean isEmpty() {
+        return gateErrors.isEmpty() && !hasReadoutError();
+    }
+}
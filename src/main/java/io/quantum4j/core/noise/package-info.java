@@ -0,0 +1,7 @@
+/**
+ * Noise channels and noise models for noisy simulation.
+ *
+ * A {@link io.quantum4j.core.noise.NoiseModel} attaches {@link io.quantum4j.core.noise.KrausChannel}s to gate types and
+ * adds readout error; it is passed to a backend through {@link io.quantum4j.core.backend.RunOptions#withNoise}.
+ */
+package io.quantum4j.core.noise;
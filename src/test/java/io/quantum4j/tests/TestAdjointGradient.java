@@ -0,0 +1,76 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.backend.StateVectorBackend;
+import io.quantum4j.core.circuit.Parameter;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import io.quantum4j.core.gates.CCXGate;
+import io.quantum4j.core.gates.Gate;
+import io.quantum4j.core.gates.StandardGates;
+import io.quantum4j.core.math.PauliSum;
+import io.quantum4j.core.math.StateVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestAdjointGradient {
+
+    @Test
+    public void testMatchesParameterShift() {
+        Parameter[] p = new Parameter[6];
+        for (int i = 0; i < p.length; i++) {
+            p[i] = new Parameter("t" + i);
+        }
+        QuantumCircuit ansatz = QuantumCircuit.create(3).h(0).ry(0, p[0]).rx(1, p[1]).cx(0, 1).rz(2, p[2]).ch(1, 2)
+                .ry(2, p[3]).s(0).cz(2, 0).rx(0, p[4]).ccx(0, 1, 2).rz(1, p[5]).ry(0, p[0]).measureAll();
+        PauliSum h = PauliSum.create().add(0.7, "ZZI").add(-0.4, "XIY").add(1.1, "IYZ").add(0.3, "IIX");
+
+        double[] theta = new double[p.length];
+        Random rnd = new Random(9);
+        for (int i = 0; i < theta.length; i++) {
+            theta[i] = rnd.nextDouble() * 2 * Math.PI;
+        }
+
+        StateVectorBackend backend = new StateVectorBackend();
+        RunOptions options = RunOptions.shots(1);
+        double[] grad = backend.gradient(ansatz, theta, h, options);
+
+        for (int k = 0; k < theta.length; k++) {
+            // p[0] drives two rotations, so compare against the total derivative by central differences
+            double[] plus = theta.clone();
+            double[] minus = theta.clone();
+            plus[k] += 1e-5;
+            minus[k] -= 1e-5;
+            double expected = (backend.expectation(ansatz.bind(plus), h, options)
+                    - backend.expectation(ansatz.bind(minus), h, options)) / 2e-5;
+            assertEquals(expected, grad[k], 1e-7, "parameter " + k);
+        }
+    }
+
+    @Test
+    public void testInverseUndoesGate() {
+        Gate[] gates = { new StandardGates.RYGate(0.4), new StandardGates.TGate(), new CCXGate() };
+        int[][] qubits = { { 1 }, { 2 }, { 2, 0, 1 } };
+
+        StateVector sv = new StateVector(3);
+        new StandardGates.HGate().apply(sv, 0);
+        new StandardGates.RXGate(1.3).apply(sv, 1);
+        new StandardGates.HGate().apply(sv, 2);
+        StateVector original = sv.copy();
+
+        for (int g = 0; g < gates.length; g++) {
+            gates[g].apply(sv, qubits[g]);
+        }
+        for (int g = gates.length - 1; g >= 0; g--) {
+            Gate inverse = gates[g].inverse();
+            assertEquals(gates[g].structure(), inverse.structure());
+            inverse.apply(sv, qubits[g]);
+        }
+        for (long i = 0; i < sv.dimension(); i++) {
+            assertEquals(original.getAmplitude(i).getRe(), sv.getAmplitude(i).getRe(), 1e-12);
+            assertEquals(original.getAmplitude(i).getIm(), sv.getAmplitude(i).getIm(), 1e-12);
+        }
+    }
+}
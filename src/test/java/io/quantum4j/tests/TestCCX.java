@@ -2,6 +2,8 @@ package io.quantum4j.tests;
 
 import io.quantum4j.core.circuit.QuantumCircuit;
 import io.quantum4j.core.backend.*;
+import io.quantum4j.core.gates.StandardGates;
+import io.quantum4j.core.math.StateVector;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,4 +26,59 @@ public class TestCCX {
 
         assertTrue(r.getCounts().containsKey("100"));
     }
+
+    @Test
+    public void testCCXTargetBelowControls() {
+        // controls 2 and 1, target 0: outcome strings list qubit 0 first
+        QuantumCircuit qc = QuantumCircuit.create(3).x(2).x(1).ccx(2, 1, 0).measureAll();
+
+        Result r = new StateVectorBackend().run(qc, RunOptions.shots(50));
+
+        assertEquals(1, r.getCounts().size());
+        assertTrue(r.getCounts().containsKey("111"));
+    }
+
+    @Test
+    public void testStandardGatesCCXMatchesCCXGate() {
+        for (int input = 0; input < 8; input++) {
+            QuantumCircuit standard = QuantumCircuit.create(3);
+            QuantumCircuit builder = QuantumCircuit.create(3);
+            for (int q = 0; q < 3; q++) {
+                if ((input >> q & 1) != 0) {
+                    standard.x(q);
+                    builder.x(q);
+                }
+            }
+            standard.apply(new StandardGates.CCXGate(), 0, 1, 2).measureAll();
+            builder.ccx(0, 1, 2).measureAll();
+
+            Result a = new StateVectorBackend().run(standard, RunOptions.shots(10));
+            Result b = new StateVectorBackend().run(builder, RunOptions.shots(10));
+            assertEquals(b.getCounts(), a.getCounts(), "input " + input);
+        }
+    }
+
+    @Test
+    public void testDenseThreeQubitKernelMatchesGenericKernel() {
+        double[] m = new double[128];
+        java.util.Random rnd = new java.util.Random(3);
+        for (int i = 0; i < m.length; i++) {
+            m[i] = rnd.nextDouble() - 0.5;
+        }
+
+        StateVector a = new StateVector(5);
+        StateVector b = new StateVector(5);
+        for (StateVector sv : new StateVector[] { a, b }) {
+            for (int q = 0; q < 5; q++) {
+                new StandardGates.RYGate(0.3 * (q + 1)).apply(sv, q);
+            }
+        }
+        a.applyThreeQubit(m, 4, 0, 2);
+        b.applyMatrix(m, 4, 0, 2);
+
+        for (long i = 0; i < a.dimension(); i++) {
+            assertEquals(b.getAmplitude(i).getRe(), a.getAmplitude(i).getRe(), 1e-12);
+            assertEquals(b.getAmplitude(i).getIm(), a.getAmplitude(i).getIm(), 1e-12);
+        }
+    }
 }
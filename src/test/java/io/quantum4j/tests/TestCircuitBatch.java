@@ -0,0 +1,75 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.backend.Result;
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.backend.StabilizerBackend;
+import io.quantum4j.core.backend.StateVectorBackend;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestCircuitBatch {
+
+    /** Circuit on n qubits that flips qubit t, entangles it with its neighbour and measures everything. */
+    private static QuantumCircuit marked(int n, int t) {
+        QuantumCircuit qc = QuantumCircuit.create(n).x(t);
+        for (int q = 0; q < n; q++) {
+            qc.h(q).h(q);
+        }
+        return qc.cx(t, (t + 1) % n).measureAll();
+    }
+
+    private static String expected(int n, int t) {
+        char[] bits = "0".repeat(n).toCharArray();
+        bits[t] = '1';
+        bits[(t + 1) % n] = '1';
+        return new String(bits);
+    }
+
+    @Test
+    public void testResultsInInputOrder() {
+        List<QuantumCircuit> circuits = new ArrayList<>();
+        List<String> outcomes = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int n = 2 + i % 9; // mixed sizes, so the cost order differs from the input order
+            circuits.add(marked(n, i % n));
+            outcomes.add(expected(n, i % n));
+        }
+        // mid-circuit measurement: bit 1 copies bit 0
+        circuits.add(QuantumCircuit.create(2).x(0).measure(0, 0).cx(0, 1).measure(1, 1));
+        outcomes.add("11");
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // threshold 9: the 9- and 10-qubit circuits take the parallel-kernel path, the rest are spread over workers
+            RunOptions options = RunOptions.shots(50).withParallelism(pool).withParallelThreshold(9);
+            List<Result> results = new StateVectorBackend().run(circuits, options);
+            assertEquals(circuits.size(), results.size());
+            for (int i = 0; i < circuits.size(); i++) {
+                assertEquals(Map.of(outcomes.get(i), 50), results.get(i).getCounts(), "circuit " + i);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        List<Result> serial = new StateVectorBackend().run(circuits.subList(0, 20),
+                RunOptions.shots(5).withParallelism(null));
+        for (int i = 0; i < 20; i++) {
+            assertEquals(Map.of(outcomes.get(i), 5), serial.get(i).getCounts());
+        }
+    }
+
+    @Test
+    public void testDefaultBatchImplementation() {
+        List<QuantumCircuit> circuits = List.of(marked(3, 0), marked(4, 3));
+        List<Result> results = new StabilizerBackend().run(circuits, RunOptions.shots(10));
+        assertEquals(Map.of("110", 10), results.get(0).getCounts());
+        assertEquals(Map.of("1001", 10), results.get(1).getCounts());
+    }
+}
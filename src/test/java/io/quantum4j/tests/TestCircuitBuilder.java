@@ -0,0 +1,35 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.circuit.QuantumCircuit;
+import io.quantum4j.core.gates.StandardGates;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestCircuitBuilder {
+
+    @Test
+    public void testFixedGatesAreShared() {
+        QuantumCircuit qc = QuantumCircuit.create(3).h(0).h(1).cx(0, 1).cx(1, 2).ccx(0, 1, 2).ccx(2, 1, 0);
+
+        assertSame(qc.getInstructions().get(0).getGate(), qc.getInstructions().get(1).getGate());
+        assertSame(qc.getInstructions().get(2).getGate(), qc.getInstructions().get(3).getGate());
+        assertSame(qc.getInstructions().get(4).getGate(), qc.getInstructions().get(5).getGate());
+    }
+
+    @Test
+    public void testRotationsAreCachedByAngle() {
+        QuantumCircuit qc = QuantumCircuit.create(2).rx(0, 0.25).rx(1, 0.25).rx(0, 0.5).ry(0, 0.25);
+
+        assertSame(qc.getInstructions().get(0).getGate(), qc.getInstructions().get(1).getGate());
+        assertNotSame(qc.getInstructions().get(0).getGate(), qc.getInstructions().get(2).getGate());
+        assertEquals("ry", qc.getInstructions().get(3).getGate().name());
+
+        for (int i = 0; i < 5000; i++) {
+            double theta = i * 1e-3;
+            StandardGates.RZGate rz = (StandardGates.RZGate) QuantumCircuit.create(1).rz(0, theta).getInstructions()
+                    .get(0).getGate();
+            assertEquals(theta, rz.getTheta());
+        }
+    }
+}
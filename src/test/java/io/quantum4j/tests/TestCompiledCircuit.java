@@ -0,0 +1,54 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.backend.Result;
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.backend.StateVectorBackend;
+import io.quantum4j.core.circuit.CompiledCircuit;
+import io.quantum4j.core.circuit.GateFusion;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestCompiledCircuit {
+
+    @Test
+    public void testPlanLayout() {
+        QuantumCircuit qc = QuantumCircuit.create(2).h(0).cx(0, 1).measure(1, 0);
+        CompiledCircuit plan = CompiledCircuit.compile(qc);
+
+        assertEquals(3, plan.size());
+        assertEquals(CompiledCircuit.OP_GATE, plan.opcode(1));
+        assertArrayEquals(new int[] { 0, 1 }, plan.qubits(1));
+        assertEquals(CompiledCircuit.OP_MEASURE, plan.opcode(2));
+        assertEquals(0, plan.classicalBit(2));
+        assertTrue(plan.hasOnlyTerminalMeasurements());
+        assertEquals(1, plan.measurementCount());
+        assertEquals(1, plan.measuredQubit(0));
+
+        CompiledCircuit midCircuit = CompiledCircuit.compile(QuantumCircuit.create(1).measure(0, 0).x(0));
+        assertFalse(midCircuit.hasOnlyTerminalMeasurements());
+    }
+
+    @Test
+    public void testPlanIsReusable() {
+        QuantumCircuit qc = QuantumCircuit.create(3).x(0).cx(0, 2).measure(0, 0).x(1).measureAll();
+        CompiledCircuit plan = CompiledCircuit.compile(qc, 2);
+        StateVectorBackend backend = new StateVectorBackend();
+
+        for (int i = 0; i < 3; i++) {
+            Result r = backend.run(plan, RunOptions.shots(20));
+            assertEquals(20, r.getCounts().get("111"));
+        }
+    }
+
+    @Test
+    public void testInvalidInstructionsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledCircuit.compile(QuantumCircuit.create(2).h(2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> CompiledCircuit.compile(QuantumCircuit.create(2).measure(0, 5)));
+        assertThrows(IllegalArgumentException.class, () -> CompiledCircuit.compile(QuantumCircuit.create(2).cx(1, 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> CompiledCircuit.compile(QuantumCircuit.create(2).h(0), GateFusion.MAX_FUSED_QUBITS + 1));
+    }
+}
@@ -0,0 +1,93 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.backend.DensityMatrixBackend;
+import io.quantum4j.core.backend.Result;
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.circuit.Instruction;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import io.quantum4j.core.math.Complex;
+import io.quantum4j.core.math.DensityMatrix;
+import io.quantum4j.core.math.StateVector;
+import io.quantum4j.core.noise.KrausChannel;
+import io.quantum4j.core.noise.NoiseModel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestDensityMatrix {
+
+    @Test
+    public void testNoiselessEvolutionMatchesPureState() {
+        QuantumCircuit qc = QuantumCircuit.create(3).h(0).t(0).rx(1, 0.7).cx(0, 2).ch(2, 1).iswap(1, 0).ccx(2, 0, 1)
+                .ry(2, 1.3);
+
+        StateVector sv = new StateVector(3);
+        DensityMatrix rho = new DensityMatrix(3);
+        for (Instruction inst : qc.getInstructions()) {
+            inst.getGate().apply(sv, inst.getQubits());
+            rho.applyUnitary(inst.getGate().matrix(), inst.getQubits());
+        }
+
+        for (int r = 0; r < 8; r++) {
+            for (int c = 0; c < 8; c++) {
+                Complex expected = sv.getAmplitude(r).mul(sv.getAmplitude(c).conjugate());
+                Complex actual = rho.getElement(r, c);
+                assertEquals(expected.getRe(), actual.getRe(), 1e-12);
+                assertEquals(expected.getIm(), actual.getIm(), 1e-12);
+            }
+        }
+        assertEquals(1.0, rho.trace(), 1e-12);
+    }
+
+    @Test
+    public void testChannels() {
+        DensityMatrix rho = new DensityMatrix(2);
+        rho.applyUnitary(QuantumCircuit.create(1).h(0).getInstructions().get(0).getGate().matrix(), 1);
+        KrausChannel full = KrausChannel.depolarizing(1.0);
+        double[][] ops = new double[full.size()][];
+        for (int i = 0; i < ops.length; i++) {
+            ops[i] = full.getOperator(i);
+        }
+        rho.applyChannel(ops, 1);
+        // |+><+| on qubit 1 becomes I/2: coherences vanish
+        assertEquals(0.5, rho.probability(0), 1e-12);
+        assertEquals(0.5, rho.probability(2), 1e-12);
+        assertEquals(0.0, rho.getElement(0, 2).getRe(), 1e-12);
+
+        NoiseModel noise = NoiseModel.create().withGateError("x", KrausChannel.amplitudeDamping(0.3));
+        Result r = new DensityMatrixBackend().run(QuantumCircuit.create(1).x(0).measure(0, 0),
+                RunOptions.shots(10000).withNoise(noise));
+        assertEquals(7000, r.getCounts().getOrDefault("1", 0), 300);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> KrausChannel.of(1, new double[] { 1, 0, 0, 0, 0, 0, 0.5, 0 }));
+        assertThrows(IllegalArgumentException.class, () -> new DensityMatrixBackend().run(
+                QuantumCircuit.create(3).ccx(0, 1, 2),
+                RunOptions.shots(1)
+                        .withNoise(NoiseModel.create().withGateError("ccx", KrausChannel.of(2, identity(4))))));
+    }
+
+    @Test
+    public void testReadoutErrorAndMidCircuitMeasurement() {
+        NoiseModel readout = NoiseModel.create().withReadoutError(0.1, 0.0);
+        Result terminal = new DensityMatrixBackend().run(QuantumCircuit.create(2).x(1).measureAll(),
+                RunOptions.shots(10000).withNoise(readout));
+        // qubit 1 is always 1; qubit 0 reads 1 about 10% of the time
+        assertEquals(1000, terminal.getCounts().getOrDefault("11", 0), 150);
+        assertEquals(10000, terminal.getCounts().getOrDefault("11", 0) + terminal.getCounts().getOrDefault("01", 0));
+
+        QuantumCircuit mid = QuantumCircuit.create(2).h(0).measure(0, 0).cx(0, 1).measure(1, 1);
+        Result r = new DensityMatrixBackend().run(mid, RunOptions.shots(200));
+        for (String outcome : r.getCounts().keySet()) {
+            assertTrue(outcome.equals("00") || outcome.equals("11"), outcome);
+        }
+    }
+
+    private static double[] identity(int d) {
+        double[] m = new double[2 * d * d];
+        for (int i = 0; i < d; i++) {
+            m[2 * (i * d + i)] = 1.0;
+        }
+        return m;
+    }
+}
@@ -0,0 +1,117 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.backend.StateVectorBackend;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import io.quantum4j.core.gates.StandardGates;
+import io.quantum4j.core.math.Complex;
+import io.quantum4j.core.math.PauliString;
+import io.quantum4j.core.math.PauliSum;
+import io.quantum4j.core.math.StateVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestExpectation {
+
+    private static final double EPS = 1e-12;
+
+    @Test
+    public void testBellStateCorrelations() {
+        QuantumCircuit bell = QuantumCircuit.create(2).h(0).cx(0, 1).measureAll();
+        StateVectorBackend backend = new StateVectorBackend();
+        RunOptions options = RunOptions.shots(1);
+
+        assertEquals(1.0, backend.expectation(bell, PauliSum.create().add(1.0, "ZZ"), options), EPS);
+        assertEquals(1.0, backend.expectation(bell, PauliSum.create().add(1.0, "XX"), options), EPS);
+        assertEquals(-1.0, backend.expectation(bell, PauliSum.create().add(1.0, "YY"), options), EPS);
+        assertEquals(0.0, backend.expectation(bell, PauliSum.create().add(1.0, "ZI"), options), EPS);
+
+        PauliSum h = PauliSum.create().add(0.5, "ZZ").add(-2.0, "YY").add(0.25, "XX").add(3.0, "IX");
+        assertEquals(0.5 + 2.0 + 0.25, backend.expectation(bell, h, options), EPS);
+
+        assertThrows(IllegalArgumentException.class, () -> backend.expectation(bell,
+                PauliSum.create().add(1.0, "ZZZ"), options));
+    }
+
+    @Test
+    public void testMatchesExplicitPauliApplication() {
+        StateVector sv = randomState(5, 11);
+        Random rnd = new Random(5);
+        String ops = "IXYZ";
+
+        for (int trial = 0; trial < 40; trial++) {
+            StringBuilder label = new StringBuilder();
+            for (int q = 0; q < 5; q++) {
+                label.append(ops.charAt(rnd.nextInt(4)));
+            }
+            PauliString pauli = PauliString.of(label.toString());
+            assertEquals(explicit(sv, label.toString()), sv.expectation(pauli), EPS, label.toString());
+        }
+    }
+
+    @Test
+    public void testParallelMatchesSerial() {
+        StateVector serial = randomState(15, 3);
+        StateVector parallel = serial.copy();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        parallel.setParallelism(pool, 1);
+        serial.setParallelism(null, 1);
+
+        PauliSum h = PauliSum.create();
+        for (int q = 0; q + 1 < 15; q++) {
+            h.add(0.1 * q, PauliString.of(1L << q | 1L << (q + 1), 0)).add(-0.3, PauliString.of(0, 1L << q))
+                    .add(0.7, PauliString.of(1L << q, 1L << q));
+        }
+        try {
+            assertEquals(serial.expectation(h), parallel.expectation(h), 1e-10);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static StateVector randomState(int n, long seed) {
+        Random rnd = new Random(seed);
+        StateVector sv = new StateVector(n);
+        for (int layer = 0; layer < 3; layer++) {
+            for (int q = 0; q < n; q++) {
+                new StandardGates.RYGate(rnd.nextDouble() * 3).apply(sv, q);
+                new StandardGates.RZGate(rnd.nextDouble() * 3).apply(sv, q);
+            }
+            for (int q = 0; q + 1 < n; q++) {
+                new StandardGates.CNOTGate().apply(sv, q, q + 1);
+            }
+        }
+        return sv;
+    }
+
+    /** ⟨ψ|P|ψ⟩ by applying the Pauli gates to a copy and taking the inner product. */
+    private static double explicit(StateVector sv, String label) {
+        StateVector p = sv.copy();
+        for (int q = 0; q < label.length(); q++) {
+            switch (label.charAt(q)) {
+            case 'X':
+                new StandardGates.XGate().apply(p, q);
+                break;
+            case 'Y':
+                new StandardGates.YGate().apply(p, q);
+                break;
+            case 'Z':
+                new StandardGates.ZGate().apply(p, q);
+                break;
+            default:
+                break;
+            }
+        }
+        double re = 0.0;
+        for (long i = 0; i < sv.dimension(); i++) {
+            Complex a = sv.getAmplitude(i);
+            Complex b = p.getAmplitude(i);
+            re += a.getRe() * b.getRe() + a.getIm() * b.getIm();
+        }
+        return re;
+    }
+}
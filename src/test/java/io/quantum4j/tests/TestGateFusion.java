@@ -0,0 +1,89 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.circuit.GateFusion;
+import io.quantum4j.core.circuit.Instruction;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import io.quantum4j.core.gates.UnitaryGate;
+import io.quantum4j.core.math.StateVector;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestGateFusion {
+
+    private static StateVector simulate(QuantumCircuit qc) {
+        StateVector sv = new StateVector(qc.getNumQubits());
+        for (Instruction inst : qc.getInstructions()) {
+            inst.getGate().apply(sv, inst.getQubits());
+        }
+        return sv;
+    }
+
+    private static QuantumCircuit ansatz() {
+        QuantumCircuit qc = QuantumCircuit.create(4);
+        for (int q = 0; q < 4; q++) {
+            qc.h(q).rz(q, 0.3 * q).rx(q, 0.7).t(q);
+        }
+        qc.cx(0, 1).cz(2, 1).swap(3, 0).ccx(0, 2, 3).ry(1, 1.1).iswap(2, 3).s(0);
+        return qc;
+    }
+
+    @Test
+    public void testSingleQubitRunsCollapse() {
+        QuantumCircuit qc = QuantumCircuit.create(1).h(0).s(0).t(0).rx(0, 0.4);
+
+        QuantumCircuit fused = GateFusion.fuse(qc, 1);
+
+        assertEquals(1, fused.getInstructions().size());
+        assertTrue(fused.getInstructions().get(0).getGate() instanceof UnitaryGate);
+    }
+
+    @Test
+    public void testFusionPreservesState() {
+        QuantumCircuit qc = ansatz();
+        StateVector expected = simulate(qc);
+
+        for (int k = 1; k <= GateFusion.MAX_FUSED_QUBITS; k++) {
+            QuantumCircuit fused = GateFusion.fuse(qc, k);
+            assertTrue(fused.getInstructions().size() < qc.getInstructions().size());
+
+            StateVector actual = simulate(fused);
+            for (long i = 0; i < expected.dimension(); i++) {
+                assertEquals(expected.getAmplitude(i).getRe(), actual.getAmplitude(i).getRe(), 1e-12);
+                assertEquals(expected.getAmplitude(i).getIm(), actual.getAmplitude(i).getIm(), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    public void testMeasurementsAreKeptInOrder() {
+        QuantumCircuit qc = QuantumCircuit.create(2).h(0).measure(0, 0).x(0).h(1).measure(1, 1);
+
+        QuantumCircuit fused = GateFusion.fuse(qc, 2);
+
+        int firstMeasure = -1;
+        int flip = -1;
+        for (int i = 0; i < fused.getInstructions().size(); i++) {
+            Instruction inst = fused.getInstructions().get(i);
+            if (inst.getType() == Instruction.Type.MEASURE && inst.getQubits()[0] == 0)
+                firstMeasure = i;
+            if (inst.getType() == Instruction.Type.GATE && inst.getGate().name().equals("x"))
+                flip = i;
+        }
+        assertTrue(firstMeasure >= 0 && flip > firstMeasure);
+    }
+
+    @Test
+    public void testTerminalMeasurementsStayTerminal() {
+        QuantumCircuit qc = QuantumCircuit.create(3).h(0).cx(0, 1).ry(2, 0.3).measureAll();
+
+        QuantumCircuit fused = GateFusion.fuse(qc, 2);
+
+        boolean measured = false;
+        for (Instruction inst : fused.getInstructions()) {
+            if (inst.getType() == Instruction.Type.MEASURE)
+                measured = true;
+            else
+                assertFalse(measured, "gate after measurement");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.gates.*;
+import io.quantum4j.core.math.Complex;
+import io.quantum4j.core.math.StateVector;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestGateStructure {
+
+    @Test
+    public void testStandardGatesDeclareStructure() {
+        assertEquals(GateStructure.DIAGONAL, new StandardGates.ZGate().structure());
+        assertEquals(GateStructure.DIAGONAL, new StandardGates.TGate().structure());
+        assertEquals(GateStructure.DIAGONAL, new StandardGates.RZGate(0.3).structure());
+        assertEquals(GateStructure.DIAGONAL, new CZGate().structure());
+        assertEquals(GateStructure.PERMUTATION, new StandardGates.XGate().structure());
+        assertEquals(GateStructure.PERMUTATION, new CNOTGate().structure());
+        assertEquals(GateStructure.PERMUTATION, new SWAPGate().structure());
+        assertEquals(GateStructure.PERMUTATION, new CCXGate().structure());
+        assertEquals(GateStructure.PHASED_PERMUTATION, new StandardGates.YGate().structure());
+        assertEquals(GateStructure.PHASED_PERMUTATION, new ISWAPGate().structure());
+        assertEquals(GateStructure.DENSE, new StandardGates.HGate().structure());
+        assertEquals(GateStructure.DENSE, new CHGate().structure());
+    }
+
+    @Test
+    public void testStructuredKernelsMatchDenseKernel() {
+        Gate[] gates = { new StandardGates.YGate(), new StandardGates.SGate(), new CZGate(), new CNOTGate(),
+                new ISWAPGate(), new SWAPGate() };
+        int[][] qubits = { { 2 }, { 1 }, { 0, 2 }, { 2, 0 }, { 1, 2 }, { 0, 1 } };
+        // CNOTGate uses the TwoQubitGate ordering (control = low bit of the local index)
+        Complex o = Complex.ONE;
+        Complex z = Complex.ZERO;
+        Complex[][] cnot = { { o, z, z, z }, { z, z, z, o }, { z, z, o, z }, { z, o, z, z } };
+        double[][] dense = { GateMatrices.flatten(GateMatrices.Y), GateMatrices.flatten(GateMatrices.S),
+                GateMatrices.flatten(GateMatrices.CZ), GateMatrices.flatten(cnot),
+                GateMatrices.flatten(GateMatrices.ISWAP), GateMatrices.flatten(GateMatrices.SWAP) };
+
+        for (int g = 0; g < gates.length; g++) {
+            StateVector structured = prepared();
+            StateVector reference = prepared();
+
+            gates[g].apply(structured, qubits[g]);
+            reference.applyMatrix(dense[g], qubits[g]);
+
+            for (long i = 0; i < structured.dimension(); i++) {
+                assertEquals(reference.getAmplitude(i).getRe(), structured.getAmplitude(i).getRe(), 1e-12);
+                assertEquals(reference.getAmplitude(i).getIm(), structured.getAmplitude(i).getIm(), 1e-12);
+            }
+        }
+    }
+
+    private static StateVector prepared() {
+        StateVector sv = new StateVector(3);
+        new StandardGates.HGate().apply(sv, 0);
+        new StandardGates.RYGate(0.4).apply(sv, 1);
+        new StandardGates.RXGate(1.3).apply(sv, 2);
+        new CHGate().apply(sv, 0, 2);
+        return sv;
+    }
+}
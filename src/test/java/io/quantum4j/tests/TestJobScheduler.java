@@ -0,0 +1,98 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.backend.Backend;
+import io.quantum4j.core.backend.JobScheduler;
+import io.quantum4j.core.backend.Result;
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.backend.StateVectorBackend;
+import io.quantum4j.core.circuit.Parameter;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJobScheduler {
+
+    @Test
+    public void testSubmitCompletesWithResult() throws Exception {
+        QuantumCircuit qc = QuantumCircuit.create(2).x(0).cx(0, 1).measureAll();
+        Result r = new StateVectorBackend().submit(qc, RunOptions.shots(100)).get(10, TimeUnit.SECONDS);
+        assertEquals(Map.of("11", 100), r.getCounts());
+
+        // backend exceptions complete the future exceptionally
+        QuantumCircuit unbound = QuantumCircuit.create(1).rx(0, new Parameter("theta")).measureAll();
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> new StateVectorBackend().submit(unbound, RunOptions.shots(1)).get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    public void testPriorityAndQueueBound() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        Backend recording = (circuit, options) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            order.add(options.getPriority());
+            return new Result(Map.of("0", options.getShots()));
+        };
+        QuantumCircuit qc = QuantumCircuit.create(1);
+
+        try (JobScheduler scheduler = JobScheduler.create(1, 2, null)) {
+            CompletableFuture<Result> blocker = scheduler.submit(recording, qc, RunOptions.shots(1).withPriority(-1));
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                while (scheduler.getRunningJobs() == 0) {
+                    Thread.sleep(1);
+                }
+            });
+            CompletableFuture<Result> low = scheduler.submit(recording, qc, RunOptions.shots(1).withPriority(1));
+            CompletableFuture<Result> high = scheduler.submit(recording, qc, RunOptions.shots(1).withPriority(5));
+            assertThrows(RejectedExecutionException.class, () -> scheduler.submit(recording, qc, RunOptions.shots(1)));
+            assertEquals(2, scheduler.getQueuedJobs());
+
+            release.countDown();
+            CompletableFuture.allOf(blocker, low, high).get(10, TimeUnit.SECONDS);
+            assertEquals(List.of(-1, 5, 1), order);
+        }
+    }
+
+    @Test
+    public void testCancelStopsRunningAndQueuedJobs() throws Exception {
+        // a long serial run: 16 qubits, many unfused gates
+        QuantumCircuit slow = QuantumCircuit.create(16);
+        for (int i = 0; i < 200_000; i++) {
+            slow.h(i % 16);
+        }
+        RunOptions options = RunOptions.shots(1).withFusion(0).withParallelism(null);
+
+        try (JobScheduler scheduler = JobScheduler.create(1, 4, null)) {
+            CompletableFuture<Result> running = scheduler.submit(new StateVectorBackend(), slow, options);
+            CompletableFuture<Result> queued = scheduler.submit(new StateVectorBackend(), slow, options);
+            assertEquals(1, scheduler.getQueuedJobs());
+
+            queued.cancel(false);
+            assertEquals(0, scheduler.getQueuedJobs());
+            assertTrue(running.cancel(true));
+            assertTrue(running.isCancelled());
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                while (scheduler.getRunningJobs() > 0) {
+                    Thread.sleep(1);
+                }
+            });
+        }
+    }
+}
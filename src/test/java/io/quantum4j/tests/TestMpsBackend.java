@@ -0,0 +1,137 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.backend.MpsBackend;
+import io.quantum4j.core.backend.Result;
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.circuit.Instruction;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import io.quantum4j.core.math.Complex;
+import io.quantum4j.core.math.MatrixProductState;
+import io.quantum4j.core.math.StateVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestMpsBackend {
+
+    @Test
+    public void testExactAmplitudesMatchStateVector() {
+        Random rnd = new Random(5);
+        int n = 5;
+        for (int trial = 0; trial < 10; trial++) {
+            QuantumCircuit qc = QuantumCircuit.create(n);
+            for (int g = 0; g < 40; g++) {
+                int a = rnd.nextInt(n);
+                int b = (a + 1 + rnd.nextInt(n - 1)) % n; // any distance, either order
+                switch (rnd.nextInt(7)) {
+                case 0:
+                    qc.h(a);
+                    break;
+                case 1:
+                    qc.t(a);
+                    break;
+                case 2:
+                    qc.rx(a, rnd.nextDouble() * 3);
+                    break;
+                case 3:
+                    qc.ry(a, rnd.nextDouble() * 3);
+                    break;
+                case 4:
+                    qc.cx(a, b);
+                    break;
+                case 5:
+                    qc.iswap(a, b);
+                    break;
+                default:
+                    qc.ch(a, b);
+                    break;
+                }
+            }
+
+            StateVector sv = new StateVector(n);
+            MatrixProductState mps = new MatrixProductState(n, 64, 0.0);
+            for (Instruction inst : qc.getInstructions()) {
+                int[] qs = inst.getQubits();
+                double[] m = inst.getGate().matrix();
+                if (qs.length == 1) {
+                    sv.applySingleQubit(m, qs[0]);
+                    mps.applySingleQubit(m, qs[0]);
+                } else {
+                    sv.applyTwoQubit(m, qs[0], qs[1]);
+                    mps.applyTwoQubit(m, qs[0], qs[1]);
+                }
+            }
+
+            for (long i = 0; i < (1L << n); i++) {
+                Complex expected = sv.getAmplitude(i);
+                Complex actual = mps.amplitude(i);
+                assertEquals(expected.getRe(), actual.getRe(), 1e-9, "trial " + trial + " index " + i);
+                assertEquals(expected.getIm(), actual.getIm(), 1e-9, "trial " + trial + " index " + i);
+            }
+            assertTrue(mps.getMaxBondDimensionInUse() <= 4);
+        }
+    }
+
+    @Test
+    public void testLargeGhzStateKeepsBondDimensionTwo() {
+        int n = 80;
+        QuantumCircuit qc = QuantumCircuit.create(n).h(0);
+        for (int q = 0; q + 1 < n; q++) {
+            qc.cx(q, q + 1);
+        }
+        qc.measureAll();
+
+        Result r = new MpsBackend().run(qc, RunOptions.shots(200));
+
+        assertEquals(2, r.getCounts().size());
+        assertTrue(r.getCounts().get("0".repeat(n)) > 50);
+        assertTrue(r.getCounts().get("1".repeat(n)) > 50);
+    }
+
+    @Test
+    public void testMidCircuitMeasurementAndTruncation() {
+        // teleport-like feed-forward without classical control: measuring a Bell pair half fixes the other half
+        QuantumCircuit qc = QuantumCircuit.create(3).h(0).cx(0, 2).measure(0, 0).cx(2, 1).measure(1, 1).measure(2, 2);
+        Result r = new MpsBackend().run(qc, RunOptions.shots(100));
+        for (String outcome : r.getCounts().keySet()) {
+            assertTrue(outcome.equals("000") || outcome.equals("111"), outcome);
+        }
+
+        // bond dimension 1 can only hold product states; truncation keeps the state normalized
+        MatrixProductState mps = new MatrixProductState(2, 1, 0.0);
+        mps.applySingleQubit(QuantumCircuit.create(1).ry(0, 1.0).getInstructions().get(0).getGate().matrix(), 0);
+        mps.applyTwoQubit(QuantumCircuit.create(2).cx(0, 1).getInstructions().get(0).getGate().matrix(), 0, 1);
+        double norm = 0;
+        for (long i = 0; i < 4; i++) {
+            norm += mps.amplitude(i).absSquared();
+        }
+        assertEquals(1.0, norm, 1e-12);
+        assertEquals(Math.pow(Math.sin(0.5), 2), mps.getTruncationError(), 1e-12);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new MpsBackend().run(QuantumCircuit.create(3).ccx(0, 1, 2), RunOptions.shots(1)));
+    }
+
+    @Test
+    public void testRoutingSwapsAreTruncated() {
+        // Bell pairs (0,1) and (2,3) fit bond dimension 2, but routing qubit 2 next to qubit 0 crosses both pairs
+        QuantumCircuit qc = QuantumCircuit.create(4).h(0).cx(0, 1).h(2).cx(2, 3).cz(0, 2);
+        MatrixProductState mps = new MatrixProductState(4, 2, 0.0);
+        for (Instruction inst : qc.getInstructions()) {
+            int[] qs = inst.getQubits();
+            double[] m = inst.getGate().matrix();
+            if (qs.length == 1) {
+                mps.applySingleQubit(m, qs[0]);
+            } else {
+                mps.applyTwoQubit(m, qs[0], qs[1]);
+            }
+            if (inst.getGate().name().equals("cx")) {
+                assertEquals(0.0, mps.getTruncationError(), 1e-12);
+            }
+        }
+        assertTrue(mps.getTruncationError() > 0.4, "truncation error " + mps.getTruncationError());
+        assertTrue(mps.getMaxBondDimensionInUse() <= 2);
+    }
+}
@@ -0,0 +1,48 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.math.MultinomialSampler;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestMultinomialSampler {
+
+    @Test
+    public void testCountsSumToShots() {
+        double[] probs = { 0.1, 0.0, 0.4, 0.25, 0.25 };
+        int[] counts = new int[probs.length];
+
+        MultinomialSampler.sample(probs, 100000, new Random(7), (outcome, count) -> counts[(int) outcome] += count);
+
+        int total = 0;
+        for (int c : counts) {
+            total += c;
+        }
+        assertEquals(100000, total);
+        assertEquals(0, counts[1]);
+        for (int i = 0; i < probs.length; i++) {
+            assertEquals(probs[i], counts[i] / 100000.0, 0.01);
+        }
+    }
+
+    @Test
+    public void testLargeShotCountOnSingleOutcome() {
+        double[] probs = { 0.0, 0.0, 2.0 };
+        long[] seen = new long[2];
+
+        MultinomialSampler.sample(probs, 5_000_000, new Random(), (outcome, count) -> {
+            seen[0] = outcome;
+            seen[1] = count;
+        });
+
+        assertEquals(2, seen[0]);
+        assertEquals(5_000_000, seen[1]);
+    }
+
+    @Test
+    public void testZeroNormIsRejected() {
+        assertThrows(IllegalStateException.class,
+                () -> MultinomialSampler.sample(new double[4], 10, new Random(), (o, c) -> {
+                }));
+    }
+}
@@ -0,0 +1,40 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.gates.CCXGate;
+import io.quantum4j.core.gates.CNOTGate;
+import io.quantum4j.core.gates.StandardGates;
+import io.quantum4j.core.math.StateVector;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestParallelKernels {
+
+    @Test
+    public void testParallelKernelsMatchSerial() {
+        int n = 16;
+        StateVector serial = new StateVector(n);
+        StateVector parallel = new StateVector(n);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        parallel.setParallelism(pool, 1);
+
+        try {
+            for (StateVector sv : new StateVector[] { serial, parallel }) {
+                for (int q = 0; q < n; q++) {
+                    new StandardGates.HGate().apply(sv, q);
+                    new StandardGates.RZGate(0.1 * (q + 1)).apply(sv, q);
+                }
+                for (int q = 0; q + 1 < n; q++) {
+                    new CNOTGate().apply(sv, q, q + 1);
+                }
+                new CCXGate().apply(sv, 0, 7, 15);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        for (long i = 0; i < serial.dimension(); i++) {
+            assertEquals(serial.getAmplitude(i), parallel.getAmplitude(i));
+        }
+    }
+}
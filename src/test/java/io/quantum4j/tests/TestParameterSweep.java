@@ -0,0 +1,57 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.backend.Backend;
+import io.quantum4j.core.backend.Result;
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.backend.StateVectorBackend;
+import io.quantum4j.core.circuit.Parameter;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestParameterSweep {
+
+    @Test
+    public void testResultsFollowInputOrder() {
+        Parameter a = new Parameter("a");
+        Parameter b = new Parameter("b");
+        // each angle is 0 or pi, so every row has a single deterministic outcome
+        QuantumCircuit template = QuantumCircuit.create(3).rx(0, a).ry(2, b).cx(2, 1).measureAll();
+
+        double[][] rows = new double[200][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new double[] { (i & 1) * Math.PI, ((i >> 1) & 1) * Math.PI };
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Result> results = new StateVectorBackend().runBatch(template, rows,
+                    RunOptions.shots(10).withParallelism(pool));
+            assertEquals(rows.length, results.size());
+            for (int i = 0; i < rows.length; i++) {
+                String expected = "" + (i & 1) + ((i >> 1) & 1) + ((i >> 1) & 1);
+                assertEquals(10, results.get(i).getCounts().get(expected), "row " + i);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDefaultImplementationAndValidation() {
+        Parameter a = new Parameter("a");
+        QuantumCircuit template = QuantumCircuit.create(1).rx(0, a).measure(0, 0);
+        Backend serial = (circuit, options) -> new StateVectorBackend().run(circuit, options);
+
+        List<Result> results = serial.runBatch(template, new double[][] { { 0.0 }, { Math.PI } }, RunOptions.shots(5));
+        assertEquals(5, results.get(0).getCounts().get("0"));
+        assertEquals(5, results.get(1).getCounts().get("1"));
+
+        assertThrows(IllegalArgumentException.class, () -> new StateVectorBackend().runBatch(template,
+                new double[][] { { 1.0, 2.0 } }, RunOptions.shots(1)));
+    }
+}
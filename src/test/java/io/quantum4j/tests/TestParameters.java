@@ -0,0 +1,61 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.backend.Result;
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.backend.StateVectorBackend;
+import io.quantum4j.core.circuit.CompiledCircuit;
+import io.quantum4j.core.circuit.Parameter;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestParameters {
+
+    private static QuantumCircuit ansatz(Parameter a, Parameter b) {
+        return QuantumCircuit.create(2).ry(0, a).cx(0, 1).rx(1, b).rz(0, a).measureAll();
+    }
+
+    @Test
+    public void testParametersInOrderOfFirstUse() {
+        Parameter a = new Parameter("a");
+        Parameter b = new Parameter("b");
+        QuantumCircuit qc = ansatz(b, a);
+
+        assertEquals(List.of(b, a), qc.getParameters());
+        assertEquals(List.of(b, a), CompiledCircuit.compile(qc, 2).getParameters());
+    }
+
+    @Test
+    public void testCompiledBindingMatchesConcreteCircuit() {
+        Parameter a = new Parameter("a");
+        Parameter b = new Parameter("b");
+        CompiledCircuit template = CompiledCircuit.compile(ansatz(a, b), 2);
+        StateVectorBackend backend = new StateVectorBackend();
+
+        // RY(pi) sets qubit 0, CX copies it to qubit 1 and RX(pi) flips qubit 1 back
+        CompiledCircuit bound = template.bind(Math.PI, Math.PI);
+        Result fromPlan = backend.run(bound, RunOptions.shots(100));
+        Result fromCircuit = backend.run(ansatz(a, b).bind(Math.PI, Math.PI), RunOptions.shots(100));
+
+        assertEquals(100, fromPlan.getCounts().get("10"));
+        assertEquals(fromCircuit.getCounts(), fromPlan.getCounts());
+
+        // rebinding reuses the template and does not disturb earlier bindings
+        CompiledCircuit other = template.bind(0.0, 0.0);
+        assertEquals(100, backend.run(other, RunOptions.shots(100)).getCounts().get("00"));
+        assertEquals(fromPlan.getCounts(), backend.run(bound, RunOptions.shots(100)).getCounts());
+    }
+
+    @Test
+    public void testUnboundAndMisboundPlansAreRejected() {
+        Parameter a = new Parameter("a");
+        CompiledCircuit template = CompiledCircuit.compile(QuantumCircuit.create(1).rx(0, a), 2);
+
+        assertThrows(IllegalStateException.class,
+                () -> new StateVectorBackend().run(template, RunOptions.shots(1)));
+        assertThrows(IllegalArgumentException.class, () -> template.bind(1.0, 2.0));
+    }
+}
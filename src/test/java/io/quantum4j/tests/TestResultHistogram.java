@@ -0,0 +1,71 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.backend.Result;
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.backend.StabilizerBackend;
+import io.quantum4j.core.backend.StateVectorBackend;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestResultHistogram {
+
+    @Test
+    public void testPackedAccessorsMatchCounts() {
+        // qubit 0 is always 1, qubits 1 and 2 form a Bell pair
+        QuantumCircuit qc = QuantumCircuit.create(3).x(0).h(1).cx(1, 2).measureAll();
+        Result r = new StateVectorBackend().run(qc, RunOptions.shots(4000));
+
+        assertEquals(3, r.getNumClassicalBits());
+        assertEquals(4000, r.getShots());
+        assertArrayEquals(new long[] { 0b001, 0b111 }, r.getOutcomes());
+        assertEquals(r.getCounts().get("100"), r.getCount(0b001));
+        assertEquals(r.getCounts().get("111"), r.getCount("111"));
+        assertEquals(0, r.getCount(0b010));
+        assertEquals(4000, r.getCount(0b001) + r.getCount(0b111));
+        assertEquals(r.getCount(0b111) / 4000.0, r.getProbability(0b111), 0.0);
+        assertEquals(1.0, r.getProbabilities().values().stream().mapToDouble(Double::doubleValue).sum(), 1e-12);
+
+        Map<String, Integer> marginal = r.getMarginalCounts(2, 0);
+        assertEquals(2, marginal.size());
+        assertEquals(r.getCount(0b001), marginal.get("01"));
+        assertEquals(r.getCount(0b111), marginal.get("11"));
+        assertThrows(IllegalArgumentException.class, () -> r.getMarginalCounts(3));
+    }
+
+    @Test
+    public void testWideRegister() {
+        int n = 100;
+        QuantumCircuit ghz = QuantumCircuit.create(n).h(0);
+        for (int q = 1; q < n; q++) {
+            ghz.cx(q - 1, q);
+        }
+        ghz.measureAll();
+        Result r = new StabilizerBackend().run(ghz, RunOptions.shots(200));
+
+        assertEquals(100, r.getNumClassicalBits());
+        assertEquals(200, r.getCount("0".repeat(n)) + r.getCount("1".repeat(n)));
+        assertEquals(200, r.getMarginalCounts(0, 99).get("00") + r.getMarginalCounts(0, 99).get("11"));
+        assertThrows(UnsupportedOperationException.class, r::getOutcomes);
+    }
+
+    @Test
+    public void testMapConstructor() {
+        Result r = new Result(Map.of("01", 3, "10", 5));
+        assertEquals(Map.of("01", 3, "10", 5), r.getCounts());
+        assertEquals(3, r.getCount(0b10));
+        assertEquals(8, r.getShots());
+        assertThrows(IllegalArgumentException.class, () -> new Result(Map.of("01", 1, "012", 1)));
+        assertThrows(IllegalArgumentException.class, () -> new Result(Map.of("0x", 1)));
+        assertThrows(UnsupportedOperationException.class, () -> r.getCounts().put("00", 1));
+
+        // zero counts stay in the map view but are not outcomes
+        Result zeros = new Result(Map.of("01", 3, "10", 0));
+        assertEquals(Map.of("01", 3, "10", 0), zeros.getCounts());
+        assertArrayEquals(new long[] { 0b10 }, zeros.getOutcomes());
+        assertEquals(3, zeros.getShots());
+    }
+}
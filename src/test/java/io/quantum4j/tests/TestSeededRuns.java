@@ -0,0 +1,108 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.backend.Backend;
+import io.quantum4j.core.backend.DensityMatrixBackend;
+import io.quantum4j.core.backend.MpsBackend;
+import io.quantum4j.core.backend.Result;
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.backend.StabilizerBackend;
+import io.quantum4j.core.backend.StateVectorBackend;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import io.quantum4j.core.math.StateVector;
+import io.quantum4j.core.noise.KrausChannel;
+import io.quantum4j.core.noise.NoiseModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSeededRuns {
+
+    private static QuantumCircuit sampled() {
+        QuantumCircuit qc = QuantumCircuit.create(5);
+        for (int q = 0; q < 5; q++) {
+            qc.h(q);
+        }
+        return qc.cx(0, 1).measureAll();
+    }
+
+    private static QuantumCircuit midCircuit() {
+        return QuantumCircuit.create(3).h(0).measure(0, 0).cx(0, 1).h(2).measure(2, 2).h(1).measure(1, 1);
+    }
+
+    @Test
+    public void testSameSeedSameCounts() {
+        RunOptions options = RunOptions.shots(2000).withSeed(42);
+        NoiseModel noise = NoiseModel.create().withGateError("h", KrausChannel.amplitudeDamping(0.2))
+                .withReadoutError(0.05, 0.05);
+        Backend[] backends = { new StateVectorBackend(), new DensityMatrixBackend(), new MpsBackend() };
+        for (Backend backend : backends) {
+            for (QuantumCircuit qc : List.of(sampled(), midCircuit())) {
+                assertEquals(backend.run(qc, options).getCounts(), backend.run(qc, options).getCounts());
+                assertEquals(backend.run(qc, options.withNoise(noise)).getCounts(),
+                        backend.run(qc, options.withNoise(noise)).getCounts());
+            }
+        }
+        QuantumCircuit clifford = QuantumCircuit.create(3).h(0).cx(0, 1).measure(1, 1).h(2).cx(2, 0).measureAll();
+        assertEquals(new StabilizerBackend().run(clifford, options).getCounts(),
+                new StabilizerBackend().run(clifford, options).getCounts());
+
+        assertNotEquals(new StateVectorBackend().run(sampled(), options).getCounts(),
+                new StateVectorBackend().run(sampled(), options.withSeed(43)).getCounts());
+    }
+
+    @Test
+    public void testParallelMatchesSerial() {
+        NoiseModel noise = NoiseModel.create().withGateError("cx", KrausChannel.depolarizing(0.1))
+                .withGateError("h", KrausChannel.amplitudeDamping(0.1)).withReadoutError(0.02, 0.03);
+        List<QuantumCircuit> batch = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            batch.add(i % 2 == 0 ? sampled() : midCircuit());
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            RunOptions parallel = RunOptions.shots(3000).withSeed(7).withParallelism(pool).withParallelThreshold(1);
+            RunOptions serial = parallel.withParallelism(null);
+            StateVectorBackend backend = new StateVectorBackend();
+
+            Result a = backend.run(midCircuit(), parallel.withNoise(noise));
+            Result b = backend.run(midCircuit(), serial.withNoise(noise));
+            assertEquals(a.getCounts(), b.getCounts());
+
+            List<Result> x = backend.run(batch, parallel);
+            List<Result> y = backend.run(batch, serial);
+            for (int i = 0; i < batch.size(); i++) {
+                assertEquals(x.get(i).getCounts(), y.get(i).getCounts(), "circuit " + i);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSeededStateAndCopies() {
+        StateVector a = new StateVector(4);
+        StateVector b = new StateVector(4);
+        double h = Math.sqrt(0.5);
+        double[] hadamard = { h, 0, h, 0, h, 0, -h, 0 };
+        for (int q = 0; q < 4; q++) {
+            a.applySingleQubit(hadamard, q);
+            b.applySingleQubit(hadamard, q);
+        }
+        a.setRandom(new SplittableRandom(3));
+        b.setRandom(new SplittableRandom(3));
+
+        for (int i = 0; i < 5; i++) {
+            StateVector ca = a.copy();
+            StateVector cb = b.copy();
+            for (int q = 0; q < 4; q++) {
+                assertEquals(ca.measureOne(q), cb.measureOne(q));
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.backend.Result;
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.backend.StateVectorBackend;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestShotBranching {
+
+    @Test
+    public void testBranchStatistics() {
+        // bit 1 copies bit 0 after a mid-circuit measurement; bit 2 is an independent coin
+        QuantumCircuit qc = QuantumCircuit.create(3).h(0).measure(0, 0).cx(0, 1).h(2).measure(2, 2).measure(1, 1);
+        Result r = new StateVectorBackend().run(qc, RunOptions.shots(8000));
+
+        int total = 0;
+        for (String outcome : new String[] { "000", "110", "001", "111" }) {
+            int count = r.getCounts().getOrDefault(outcome, 0);
+            assertEquals(2000, count, 250, outcome);
+            total += count;
+        }
+        assertEquals(8000, total);
+    }
+
+    @Test
+    public void testDeterministicBranchesAreNotResimulatedPerShot() {
+        // a large state and many shots: per-shot re-simulation would copy 2^18 amplitudes a million times
+        int n = 18;
+        QuantumCircuit qc = QuantumCircuit.create(n).x(0).measure(0, 0).cx(0, 1).measure(1, 1).h(2).measure(2, 2);
+        for (int q = 3; q < n; q++) {
+            qc.cx(1, q);
+        }
+        qc.measureAll();
+
+        Result r = assertTimeoutPreemptively(Duration.ofSeconds(20),
+                () -> new StateVectorBackend().run(qc, RunOptions.shots(1_000_000).withFusion(0)));
+
+        assertEquals(2, r.getCounts().size());
+        String ones = "1".repeat(n);
+        String zeroAt2 = "11" + "0" + "1".repeat(n - 3);
+        assertEquals(1_000_000, r.getCounts().get(ones) + r.getCounts().get(zeroAt2));
+        assertEquals(500_000, r.getCounts().get(ones), 5_000);
+    }
+}
@@ -0,0 +1,110 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.backend.Result;
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.backend.StabilizerBackend;
+import io.quantum4j.core.backend.StateVectorBackend;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import io.quantum4j.core.gates.Gate;
+import io.quantum4j.core.gates.StandardGates;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestStabilizerBackend {
+
+    @Test
+    public void testLargeGhzState() {
+        int n = 1000;
+        QuantumCircuit qc = QuantumCircuit.create(n).h(0);
+        for (int q = 0; q + 1 < n; q++) {
+            qc.cx(q, q + 1);
+        }
+        qc.measureAll();
+
+        Result r = new StabilizerBackend().run(qc, RunOptions.shots(20));
+
+        for (String outcome : r.getCounts().keySet()) {
+            assertTrue(outcome.equals("0".repeat(n)) || outcome.equals("1".repeat(n)));
+        }
+    }
+
+    @Test
+    public void testRandomCliffordCircuitsMatchStateVectorSupport() {
+        Random rnd = new Random(17);
+        for (int trial = 0; trial < 20; trial++) {
+            QuantumCircuit qc = QuantumCircuit.create(4);
+            for (int g = 0; g < 30; g++) {
+                int a = rnd.nextInt(4);
+                int b = (a + 1 + rnd.nextInt(3)) % 4;
+                switch (rnd.nextInt(8)) {
+                case 0:
+                    qc.h(a);
+                    break;
+                case 1:
+                    qc.s(a);
+                    break;
+                case 2:
+                    qc.x(a);
+                    break;
+                case 3:
+                    qc.y(a);
+                    break;
+                case 4:
+                    qc.z(a);
+                    break;
+                case 5:
+                    qc.cx(a, b);
+                    break;
+                case 6:
+                    qc.cz(a, b);
+                    break;
+                default:
+                    qc.swap(a, b);
+                    break;
+                }
+            }
+            qc.measureAll();
+
+            Result stabilizer = new StabilizerBackend().run(qc, RunOptions.shots(2000));
+            Result exact = new StateVectorBackend().run(qc, RunOptions.shots(20000));
+            assertEquals(exact.getCounts().keySet(), stabilizer.getCounts().keySet(), "trial " + trial);
+        }
+    }
+
+    @Test
+    public void testStandardGatesTwoQubitGatesMatchStateVector() {
+        Gate[] gates = { new StandardGates.CNOTGate(), new StandardGates.CZGate(), new StandardGates.SWAPGate() };
+        for (Gate gate : gates) {
+            for (int input = 0; input < 4; input++) {
+                QuantumCircuit qc = QuantumCircuit.create(2);
+                if ((input & 1) != 0)
+                    qc.x(0);
+                if ((input & 2) != 0)
+                    qc.x(1);
+                qc.apply(gate, 0, 1).measureAll();
+
+                Result stabilizer = new StabilizerBackend().run(qc, RunOptions.shots(200).withSeed(5));
+                Result exact = new StateVectorBackend().run(qc, RunOptions.shots(200).withSeed(5));
+                assertEquals(exact.getCounts().keySet(), stabilizer.getCounts().keySet(),
+                        gate.name() + " on input " + input);
+            }
+        }
+    }
+
+    @Test
+    public void testMidCircuitMeasurementAndRejection() {
+        QuantumCircuit qc = QuantumCircuit.create(2).h(0).measure(0, 0).cx(0, 1).measure(1, 1);
+        Result r = new StabilizerBackend().run(qc, RunOptions.shots(200));
+        for (String outcome : r.getCounts().keySet()) {
+            assertEquals(outcome.charAt(0), outcome.charAt(1));
+        }
+
+        QuantumCircuit nonClifford = QuantumCircuit.create(2).h(0).t(0).measureAll();
+        assertEquals(1, StabilizerBackend.firstNonCliffordGate(nonClifford));
+        assertThrows(IllegalArgumentException.class,
+                () -> new StabilizerBackend().run(nonClifford, RunOptions.shots(1)));
+    }
+}
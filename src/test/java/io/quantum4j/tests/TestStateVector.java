@@ -0,0 +1,73 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.gates.CCXGate;
+import io.quantum4j.core.gates.CNOTGate;
+import io.quantum4j.core.gates.StandardGates;
+import io.quantum4j.core.math.Complex;
+import io.quantum4j.core.math.StateVector;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestStateVector {
+
+    private static final double EPS = 1e-12;
+
+    @Test
+    public void testInitialStateIsAllZeros() {
+        StateVector sv = new StateVector(3);
+
+        assertEquals(8, sv.dimension());
+        assertEquals(Complex.ONE, sv.getAmplitude(0));
+        for (int i = 1; i < 8; i++) {
+            assertEquals(0.0, sv.probability(i), EPS);
+        }
+    }
+
+    @Test
+    public void testBellStateAmplitudes() {
+        StateVector sv = new StateVector(2);
+        new StandardGates.HGate().apply(sv, 0);
+        new CNOTGate().apply(sv, 0, 1);
+
+        double h = 1.0 / Math.sqrt(2.0);
+        assertEquals(h, sv.getAmplitude(0).getRe(), EPS);
+        assertEquals(h, sv.getAmplitude(3).getRe(), EPS);
+        assertEquals(0.0, sv.probability(1), EPS);
+        assertEquals(0.0, sv.probability(2), EPS);
+    }
+
+    @Test
+    public void testSetAmplitudeAndCopyAreIndependent() {
+        StateVector sv = new StateVector(1);
+        sv.setAmplitude(0, Complex.ZERO);
+        sv.setAmplitude(1, new Complex(0, 1));
+
+        StateVector copy = sv.copy();
+        new StandardGates.XGate().apply(copy, 0);
+
+        assertEquals(new Complex(0, 1), sv.getAmplitude(1));
+        assertEquals(new Complex(0, 1), copy.getAmplitude(0));
+    }
+
+    @Test
+    public void testOffHeapMatchesHeap() {
+        StateVector heap = StateVector.onHeap(4);
+        StateVector direct = StateVector.offHeap(4);
+        assertFalse(heap.isOffHeap());
+        assertTrue(direct.isOffHeap());
+
+        for (StateVector sv : new StateVector[] { heap, direct }) {
+            new StandardGates.HGate().apply(sv, 0);
+            new StandardGates.RYGate(0.7).apply(sv, 3);
+            new CNOTGate().apply(sv, 0, 2);
+            new CCXGate().apply(sv, 0, 2, 1);
+        }
+
+        StateVector copy = direct.copy();
+        assertTrue(copy.isOffHeap());
+        for (long i = 0; i < heap.dimension(); i++) {
+            assertEquals(heap.getAmplitude(i).getRe(), copy.getAmplitude(i).getRe(), EPS);
+            assertEquals(heap.getAmplitude(i).getIm(), copy.getAmplitude(i).getIm(), EPS);
+        }
+    }
+}
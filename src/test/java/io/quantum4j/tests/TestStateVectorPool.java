@@ -0,0 +1,79 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.backend.StateVectorBackend;
+import io.quantum4j.core.circuit.CompiledCircuit;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import io.quantum4j.core.math.StateVector;
+import io.quantum4j.core.math.StateVectorPool;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class TestStateVectorPool {
+
+    @Test
+    public void testAcquireAndRelease() {
+        StateVectorPool pool = new StateVectorPool();
+        StateVector a = pool.acquire(3);
+        QuantumCircuit.create(3).h(0).cx(0, 2).getInstructions().forEach(i -> i.getGate().apply(a, i.getQubits()));
+
+        StateVector copy = pool.acquireCopy(a);
+        assertNotSame(a, copy);
+        assertEquals(0.5, copy.probability(0b101), 1e-12);
+
+        pool.release(a);
+        pool.release(a); // idempotent
+        assertEquals(16 * 8, pool.getRetainedBytes());
+        StateVector reused = pool.acquire(3);
+        assertSame(a, reused);
+        assertEquals(1.0, reused.probability(0), 0.0);
+        assertEquals(0, pool.getRetainedBytes());
+
+        pool.release(reused);
+        StateVector reusedCopy = pool.acquireCopy(copy);
+        assertSame(a, reusedCopy);
+        assertEquals(0.5, reusedCopy.probability(0b101), 1e-12);
+        assertEquals(0.0, reusedCopy.probability(0b001), 1e-12);
+
+        assertThrows(IllegalArgumentException.class, () -> reusedCopy.copyFrom(new StateVector(2)));
+
+        StateVectorPool tiny = new StateVectorPool(100);
+        tiny.release(new StateVector(3)); // 128 bytes: over budget
+        assertEquals(0, tiny.getRetainedBytes());
+    }
+
+    @Test
+    public void testRepeatedRunsReuseStates() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported());
+        com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+
+        int n = 16; // 1 MiB of amplitudes
+        QuantumCircuit qc = QuantumCircuit.create(n);
+        for (int q = 0; q < n; q++) {
+            qc.h(q);
+        }
+        qc.measureAll();
+        CompiledCircuit plan = CompiledCircuit.compile(qc, 2);
+        RunOptions options = RunOptions.shots(1000).withParallelism(null);
+        StateVectorPool pool = new StateVectorPool();
+        StateVectorBackend backend = new StateVectorBackend(pool);
+
+        backend.run(plan, options); // warm-up allocates the state
+        assertEquals(16L << n, pool.getRetainedBytes());
+
+        long thread = Thread.currentThread().getId();
+        long before = counter.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 10; i++) {
+            backend.run(plan, options);
+        }
+        long perRun = (counter.getThreadAllocatedBytes(thread) - before) / 10;
+        assertTrue(perRun < (16L << n) / 4, "allocated " + perRun + " bytes per run");
+    }
+}
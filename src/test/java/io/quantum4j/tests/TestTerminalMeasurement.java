@@ -0,0 +1,40 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.circuit.QuantumCircuit;
+import io.quantum4j.core.backend.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestTerminalMeasurement {
+
+    @Test
+    public void testTerminalMeasurementsAreCorrelated() {
+        QuantumCircuit qc = QuantumCircuit.create(2).h(0).cx(0, 1).measureAll();
+
+        Result r = new StateVectorBackend().run(qc, RunOptions.shots(1000));
+
+        assertEquals(2, r.getCounts().size());
+        assertEquals(1000, r.getCounts().get("00") + r.getCounts().get("11"));
+    }
+
+    @Test
+    public void testTerminalMeasurementMapsQubitToClassicalBit() {
+        QuantumCircuit qc = QuantumCircuit.create(2).x(1).measure(1, 0);
+
+        Result r = new StateVectorBackend().run(qc, RunOptions.shots(50));
+
+        assertEquals(50, r.getCounts().get("10"));
+    }
+
+    @Test
+    public void testMidCircuitMeasurementStillCollapses() {
+        // measuring before the CNOT collapses q0, so q1 copies the measured value
+        QuantumCircuit qc = QuantumCircuit.create(2).h(0).measure(0, 0).cx(0, 1).measure(1, 1);
+
+        Result r = new StateVectorBackend().run(qc, RunOptions.shots(400));
+
+        for (String outcome : r.getCounts().keySet()) {
+            assertTrue(outcome.equals("00") || outcome.equals("11"), outcome);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.quantum4j.tests;
+
+import io.quantum4j.core.backend.DensityMatrixBackend;
+import io.quantum4j.core.backend.Result;
+import io.quantum4j.core.backend.RunOptions;
+import io.quantum4j.core.backend.StateVectorBackend;
+import io.quantum4j.core.circuit.CompiledCircuit;
+import io.quantum4j.core.circuit.Parameter;
+import io.quantum4j.core.circuit.QuantumCircuit;
+import io.quantum4j.core.math.StateVector;
+import io.quantum4j.core.noise.KrausChannel;
+import io.quantum4j.core.noise.NoiseModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestTrajectoryNoise {
+
+    @Test
+    public void testTrajectoriesMatchDensityMatrix() {
+        QuantumCircuit qc = QuantumCircuit.create(3).h(0).cx(0, 1).ry(2, 0.8).cx(1, 2).h(1).measureAll();
+        NoiseModel noise = NoiseModel.create().withGateError("cx", KrausChannel.depolarizing(0.2))
+                .withGateError("h", KrausChannel.amplitudeDamping(0.25)).withReadoutError(0.02, 0.05);
+        int shots = 50000;
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            RunOptions options = RunOptions.shots(shots).withNoise(noise).withParallelism(pool);
+            Result trajectories = new StateVectorBackend().run(qc, options);
+            Result exact = new DensityMatrixBackend().run(qc, options);
+
+            Set<String> outcomes = new HashSet<>(trajectories.getCounts().keySet());
+            outcomes.addAll(exact.getCounts().keySet());
+            double distance = 0;
+            int total = 0;
+            for (String o : outcomes) {
+                int a = trajectories.getCounts().getOrDefault(o, 0);
+                total += a;
+                distance += Math.abs(a - exact.getCounts().getOrDefault(o, 0)) / (2.0 * shots);
+            }
+            assertEquals(shots, total);
+            assertTrue(distance < 0.02, "total variation distance " + distance);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDampingAndReadoutWithMidCircuitMeasurement() {
+        NoiseModel noise = NoiseModel.create().withGateError("x", KrausChannel.amplitudeDamping(0.3));
+        Result r = new StateVectorBackend().run(QuantumCircuit.create(1).x(0).measure(0, 0),
+                RunOptions.shots(10000).withNoise(noise));
+        assertEquals(7000, r.getCounts().getOrDefault("1", 0), 300);
+
+        // measuring mid-circuit: qubit 1 copies qubit 0, readout noise hits both bits independently
+        QuantumCircuit mid = QuantumCircuit.create(2).x(0).measure(0, 0).cx(0, 1).measure(1, 1);
+        Result noisy = new StateVectorBackend().run(mid,
+                RunOptions.shots(10000).withNoise(NoiseModel.create().withReadoutError(0.0, 0.1)));
+        assertEquals(8100, noisy.getCounts().getOrDefault("11", 0), 300);
+        assertEquals(900, noisy.getCounts().getOrDefault("01", 0), 200);
+    }
+
+    @Test
+    public void testBatchAndCompiledRunsKeepNoise() {
+        Parameter theta = new Parameter("theta");
+        QuantumCircuit qc = QuantumCircuit.create(1).rx(0, theta).x(0).measureAll();
+        RunOptions options = RunOptions.shots(4000).withSeed(1)
+                .withNoise(NoiseModel.create().withGateError("x", KrausChannel.bitFlip(0.5)));
+
+        List<Result> rows = new StateVectorBackend().runBatch(qc, new double[][] { { 0 }, { Math.PI } }, options);
+        for (Result r : rows) {
+            assertEquals(2000, r.getCounts().getOrDefault("1", 0), 200);
+        }
+
+        CompiledCircuit fused = CompiledCircuit.compile(qc.bind(0), 2);
+        assertThrows(IllegalArgumentException.class, () -> new StateVectorBackend().run(fused, options));
+        Result plain = new StateVectorBackend().run(CompiledCircuit.compile(qc.bind(0)), options);
+        assertEquals(2000, plain.getCounts().getOrDefault("1", 0), 200);
+    }
+
+    @Test
+    public void testReducedDensityMatrix() {
+        StateVector bell = new StateVector(3);
+        double r = Math.sqrt(0.5);
+        bell.applySingleQubit(new double[] { r, 0, r, 0, r, 0, -r, 0 }, 0);
+        QuantumCircuit.create(3).cx(0, 2).getInstructions().get(0).getGate().apply(bell, new int[] { 0, 2 });
+
+        double[] one = bell.reducedDensityMatrix(2);
+        assertArrayEquals(new double[] { 0.5, 0, 0, 0, 0, 0, 0.5, 0 }, one, 1e-12);
+
+        double[] pair = bell.reducedDensityMatrix(0, 2);
+        // (|00> + |11>)(<00| + <11|) / 2 in the local basis of (q0, q2)
+        assertEquals(0.5, pair[2 * (0 * 4 + 0)], 1e-12);
+        assertEquals(0.5, pair[2 * (0 * 4 + 3)], 1e-12);
+        assertEquals(0.5, pair[2 * (3 * 4 + 0)], 1e-12);
+        assertEquals(0.5, pair[2 * (3 * 4 + 3)], 1e-12);
+        assertEquals(0.0, pair[2 * (1 * 4 + 1)], 1e-12);
+    }
+}